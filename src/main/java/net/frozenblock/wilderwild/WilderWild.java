@@ -20,6 +20,9 @@ package net.frozenblock.wilderwild;
 
 import java.util.ArrayList;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
@@ -32,6 +35,11 @@ import net.frozenblock.lib.entity.api.category.entrypoint.FrozenMobCategoryEntry
 import net.frozenblock.lib.entity.impl.category.FrozenMobCategory;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.feature_flag.api.FeatureFlagApi;
+import net.frozenblock.wilderwild.block.impl.FallingLeafLitter;
+import net.frozenblock.wilderwild.block.impl.LightningScorching;
+import net.frozenblock.wilderwild.block.impl.SculkSpreadJobs;
+import net.frozenblock.wilderwild.block.termite.TermiteBlockBehaviors;
+import net.frozenblock.wilderwild.block.termite.TermiteTickScheduler;
 import net.frozenblock.wilderwild.command.SpreadSculkCommand;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
@@ -39,8 +47,12 @@ import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.datafix.minecraft.WWMinecraftDataFixer;
 import net.frozenblock.wilderwild.datafix.wilderwild.WWDataFixer;
 import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.ai.firefly.FireflySwarms;
+import net.frozenblock.wilderwild.entity.impl.NearbyPlayerGrid;
 import net.frozenblock.wilderwild.mod_compat.WWModIntegrations;
 import net.frozenblock.wilderwild.networking.WWNetworking;
+import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
+import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
 import net.frozenblock.wilderwild.registry.WWActivities;
 import net.frozenblock.wilderwild.registry.WWBiomes;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
@@ -63,6 +75,7 @@ import net.frozenblock.wilderwild.registry.WWSoundTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WWVillagers;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
+import net.frozenblock.wilderwild.wind.EntityWindField;
 import net.frozenblock.wilderwild.worldgen.modification.WWWorldGen;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -113,14 +126,37 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWBiomes.init();
 		WWWorldGen.generateWildWorldGen();
 		WWBlocks.registerBlockProperties();
+		FallingLeafLitter.init();
 		WWVillagers.register();
 
 		ServerLifecycleEvents.SERVER_STOPPED.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
+			Jellyfish.clearJellyfishPerLevel();
+			TermiteBlockBehaviors.clearBehaviorIndex();
+			TermiteTickScheduler.clear();
+			EntityWindField.clearAll();
+			FireflySwarms.clear();
+			SculkSpreadJobs.clear();
+			NearbyPlayerGrid.clear();
+			FallingLeafLitter.clear();
+			LightningScorching.clear();
+			WWLightningStrikePacket.clearPendingStrikes();
+			WWStoneChestLidPacket.clearPendingLids();
 		});
-		ServerTickEvents.START_SERVER_TICK.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> TermiteBlockBehaviors.clearBehaviorIndex());
+		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			SculkSpreadJobs.tick();
+			WWLightningStrikePacket.sendPendingStrikes();
+			WWStoneChestLidPacket.sendPendingLids();
+			WWStoneChestLidPacket.logSentPackets(server.getTickCount());
 		});
+		ServerTickEvents.END_WORLD_TICK.register(level -> {
+			FallingLeafLitter.tick(level);
+			LightningScorching.tick(level);
+		});
+		ServerChunkEvents.CHUNK_LOAD.register(FallingLeafLitter::onChunkLoad);
+		ServerChunkEvents.CHUNK_UNLOAD.register(FallingLeafLitter::onChunkUnload);
+		ServerEntityEvents.ENTITY_LOAD.register(Jellyfish::onEntityLoad);
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> Jellyfish.onEntityUnload(entity));
 
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> SpreadSculkCommand.register(dispatcher));
 
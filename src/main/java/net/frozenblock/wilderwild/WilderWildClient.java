@@ -22,6 +22,7 @@ import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.ResourcePackActivationType;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
@@ -41,6 +42,7 @@ import net.frozenblock.wilderwild.client.WilderEasterEggs;
 import net.frozenblock.wilderwild.client.renderer.debug.OstrichDebugRenderer;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.networking.WWClientNetworking;
+import net.frozenblock.wilderwild.wind.ClientParticleWindLattice;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
@@ -67,6 +69,11 @@ public final class WilderWildClient implements ClientModInitializer {
 		WWTints.initItems();
 
 		WWClientNetworking.registerPacketReceivers();
+		ClientTickEvents.END_WORLD_TICK.register(WWClientNetworking::tickLightningStrikes);
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+			WWClientNetworking.clearLightningStrikes();
+			ClientParticleWindLattice.clear();
+		});
 
 		if (WWAmbienceAndMiscConfig.get().music.wilderExtraMusic) {
 			ResourceManagerHelper.registerBuiltinResourcePack(
@@ -126,6 +126,9 @@ public class GeyserBlock extends BaseEntityBlock {
 
 	@Override
 	protected void neighborChanged(BlockState blockState, @NotNull Level level, BlockPos blockPos, Block block, BlockPos blockPos2, boolean movedByPiston) {
+		if (level.getBlockEntity(blockPos) instanceof GeyserBlockEntity geyserBlockEntity) {
+			geyserBlockEntity.invalidateEruptionColumn();
+		}
 		if (!level.isClientSide) {
 			boolean hasNeighborSignal = level.hasNeighborSignal(blockPos);
 			if (hasNeighborSignal != blockState.getValue(POWERED)) {
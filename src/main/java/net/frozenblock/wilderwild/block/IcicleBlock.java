@@ -124,6 +124,9 @@ public class IcicleBlock extends BaseEntityBlock implements Fallable, SimpleWate
 		if (direction != Direction.UP && direction != Direction.DOWN) return blockState;
 
 		Direction tipDirection = blockState.getValue(TIP_DIRECTION);
+		if (tipDirection == Direction.DOWN && levelAccessor instanceof ServerLevel && levelAccessor.getBlockEntity(blockPos) instanceof IcicleBlockEntity icicleBlockEntity) {
+			icicleBlockEntity.clearCachedColumn();
+		}
 		if (tipDirection == Direction.DOWN && levelAccessor.getBlockTicks().hasScheduledTick(blockPos, this)) {
 			return blockState;
 		} else if (direction == tipDirection.getOpposite() && !this.canSurvive(blockState, levelAccessor, blockPos)) {
@@ -309,7 +312,7 @@ public class IcicleBlock extends BaseEntityBlock implements Fallable, SimpleWate
 		BlockState aboveState = serverLevel.getBlockState(blockPos.above(1));
 		BlockState aboveTwiceState = serverLevel.getBlockState(blockPos.above(2));
 		if (canGrow(aboveState, aboveTwiceState)) {
-			BlockPos tipPos = findTip(blockState, serverLevel, blockPos, 7, false);
+			BlockPos tipPos = findHangingTip(blockState, serverLevel, blockPos);
 			if (tipPos != null) {
 				BlockState tipState = serverLevel.getBlockState(tipPos);
 				if (canDrip(tipState) && canTipGrow(tipState, serverLevel, tipPos)) {
@@ -344,6 +347,34 @@ public class IcicleBlock extends BaseEntityBlock implements Fallable, SimpleWate
 		createIcicle(levelAccessor, isUp ? blockPos : blockPos.below(), Direction.UP, DripstoneThickness.TIP_MERGE);
 	}
 
+	/**
+	 * Finds the tip of a hanging Icicle, reusing the column cached in the start position's {@link IcicleBlockEntity} when it's still valid.
+	 */
+	@Nullable
+	private static BlockPos findHangingTip(BlockState blockState, @NotNull ServerLevel serverLevel, @NotNull BlockPos startPos) {
+		if (!(serverLevel.getBlockEntity(startPos) instanceof IcicleBlockEntity icicleBlockEntity)) {
+			return findTip(blockState, serverLevel, startPos, 7, false);
+		}
+
+		BlockPos cachedTipPos = icicleBlockEntity.getCachedTipPos();
+		if (cachedTipPos != null && isCachedColumnValid(serverLevel, cachedTipPos, icicleBlockEntity.getCachedColumnLength())) {
+			return cachedTipPos;
+		}
+
+		BlockPos tipPos = findTip(blockState, serverLevel, startPos, 7, false);
+		if (tipPos != null) {
+			icicleBlockEntity.setCachedColumn(tipPos, startPos.getY() - tipPos.getY() + 1);
+		} else {
+			icicleBlockEntity.clearCachedColumn();
+		}
+		return tipPos;
+	}
+
+	private static boolean isCachedColumnValid(@NotNull LevelReader levelReader, @NotNull BlockPos tipPos, int columnLength) {
+		if (!isUnmergedTipWithDirection(levelReader.getBlockState(tipPos), Direction.DOWN)) return false;
+		return columnLength <= 1 || isHangingIcicle(levelReader.getBlockState(tipPos.above()));
+	}
+
 	@Nullable
 	public static BlockPos findTip(BlockState blockState, LevelAccessor levelAccessor, BlockPos blockPos, int i, boolean bl) {
 		if (isTip(blockState, bl)) return blockPos;
@@ -21,6 +21,8 @@ package net.frozenblock.wilderwild.block;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import net.frozenblock.lib.block.api.shape.FrozenShapes;
 import net.frozenblock.wilderwild.block.state.properties.BubbleDirection;
@@ -151,37 +153,67 @@ public class MesogleaBlock extends HalfTransparentBlock {
 
 	public static void updateColumn(LevelAccessor level, BlockPos pos, BlockState mesoglea, BlockState state) {
 		if (canExistIn(mesoglea)) {
-			level.setBlock(pos, getColumnState(mesoglea, state), UPDATE_CLIENTS);
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable().move(Direction.UP);
-			BlockState mutableState;
-			while (true) {
-				mutableState = level.getBlockState(mutableBlockPos);
-				if (canExistIn(mutableState)) {
-					if (!level.setBlock(mutableBlockPos, getColumnState(mutableState, state), UPDATE_CLIENTS)) {
-						return;
-					}
-					mutableBlockPos.move(Direction.UP);
-				} else {
-					BubbleColumnBlock.updateColumn(level, mutableBlockPos, state);
-					return;
+			// Every block in the column takes the same direction, so it only has to be found once.
+			BubbleDirection bubbleDirection = getColumnDirection(state);
+
+			// Find the whole column first, then write it in a single pass from the bottom up.
+			List<BlockState> columnStates = new ArrayList<>();
+			columnStates.add(mesoglea);
+			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
+			int maxY = level.getMaxBuildHeight();
+			while (mutableBlockPos.move(Direction.UP).getY() < maxY) {
+				BlockState aboveState = level.getBlockState(mutableBlockPos);
+				if (!canExistIn(aboveState)) break;
+				columnStates.add(aboveState);
+			}
+
+			mutableBlockPos.set(pos);
+			for (BlockState columnState : columnStates) {
+				BlockState newState = columnState.setValue(BUBBLE_DIRECTION, bubbleDirection);
+				if (newState != columnState) {
+					level.setBlock(mutableBlockPos, newState, UPDATE_CLIENTS);
 				}
+				mutableBlockPos.move(Direction.UP);
+			}
+			if (mutableBlockPos.getY() < maxY) {
+				BubbleColumnBlock.updateColumn(level, mutableBlockPos, state);
+			}
+		}
+	}
+
+	/**
+	 * Schedules a single tick at the bottom of the Mesoglea column containing {@code pos}.
+	 * <p>
+	 * Updating the bottom of a column updates all of it, so every neighbor update along a column shares one scheduled tick.
+	 */
+	private static void scheduleColumnTick(@NotNull LevelAccessor level, @NotNull BlockPos pos, @NotNull Block block) {
+		BlockPos.MutableBlockPos rootPos = pos.mutable();
+		Block rootBlock = block;
+		int minY = level.getMinBuildHeight();
+		while (rootPos.getY() > minY) {
+			BlockState belowState = level.getBlockState(rootPos.move(Direction.DOWN));
+			if (!canExistIn(belowState)) {
+				rootPos.move(Direction.UP);
+				break;
 			}
+			rootBlock = belowState.getBlock();
 		}
+		level.scheduleTick(rootPos, rootBlock, TICK_DELAY);
 	}
 
 	@NotNull
-	private static BlockState getColumnState(@NotNull BlockState mesogleaState, @NotNull BlockState blockState) {
+	private static BubbleDirection getColumnDirection(@NotNull BlockState blockState) {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
 			//Remember, blockState is for the block below.
 			if (blockState.is(Blocks.BUBBLE_COLUMN)) {
-				return mesogleaState.setValue(BUBBLE_DIRECTION, blockState.getValue(BlockStateProperties.DRAG) ? BubbleDirection.DOWN : BubbleDirection.UP);
+				return blockState.getValue(BlockStateProperties.DRAG) ? BubbleDirection.DOWN : BubbleDirection.UP;
 			} else if (blockState.is(Blocks.SOUL_SAND)) {
-				return mesogleaState.setValue(BUBBLE_DIRECTION, BubbleDirection.UP);
+				return BubbleDirection.UP;
 			} else if (blockState.is(Blocks.MAGMA_BLOCK)) {
-				return mesogleaState.setValue(BUBBLE_DIRECTION, BubbleDirection.DOWN);
+				return BubbleDirection.DOWN;
 			}
 		}
-		return mesogleaState.setValue(BUBBLE_DIRECTION, BubbleDirection.NONE);
+		return BubbleDirection.NONE;
 	}
 
 	private static boolean canExistIn(BlockState blockState) {
@@ -414,11 +446,11 @@ public class MesogleaBlock extends HalfTransparentBlock {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
 			if (hasBubbleColumn(state)) {
 				if (!canColumnSurvive(level, pos) || direction == Direction.DOWN || direction == Direction.UP && !hasBubbleColumn(neighborState) && canExistIn(neighborState)) {
-					level.scheduleTick(pos, this, TICK_DELAY);
+					scheduleColumnTick(level, pos, this);
 				}
 			}
 			if (direction == Direction.DOWN && neighborState.is(Blocks.BUBBLE_COLUMN)) {
-				level.scheduleTick(pos, this, TICK_DELAY);
+				scheduleColumnTick(level, pos, this);
 			}
 		}
 		return super.updateShape(state, direction, neighborState, level, pos, neighborPos);
@@ -427,7 +459,7 @@ public class MesogleaBlock extends HalfTransparentBlock {
 	@Override
 	public void neighborChanged(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull Block neighborBlock, @NotNull BlockPos neighborPos, boolean movedByPiston) {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
-			level.scheduleTick(pos, this, TICK_DELAY);
+			scheduleColumnTick(level, pos, this);
 		}
 	}
 
@@ -84,10 +84,15 @@ public class ScorchedBlock extends BaseEntityBlock {
 		return SCORCH_MAP.containsKey(stateWithoutDusting(state));
 	}
 
+	@Nullable
+	public static BlockState getScorchedState(@NotNull BlockState state) {
+		return SCORCH_MAP.get(stateWithoutDusting(state));
+	}
+
 	public static void scorch(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos) {
-		state = stateWithoutDusting(state);
-		if (canScorch(state)) {
-			level.setBlockAndUpdate(pos, SCORCH_MAP.get(state));
+		BlockState scorchedState = getScorchedState(state);
+		if (scorchedState != null) {
+			level.setBlockAndUpdate(pos, scorchedState);
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, pos);
 		}
 	}
@@ -61,6 +61,7 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class GeyserBlockEntity extends BlockEntity {
 	private static final WindDisturbanceLogic<GeyserBlockEntity> DUMMY_WIND_LOGIC = new WindDisturbanceLogic<>((source, level1, windOrigin, affectedArea, windTarget) -> WindDisturbance.DUMMY_RESULT);
@@ -87,6 +88,8 @@ public class GeyserBlockEntity extends BlockEntity {
 	private boolean hasRunFirstCheck = false;
 	private int ticksUntilNextEvent;
 	private float eruptionProgress;
+	@Nullable
+	private EruptionColumn eruptionColumn;
 
 	public GeyserBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.GEYSER, pos, state);
@@ -152,61 +155,42 @@ public class GeyserBlockEntity extends BlockEntity {
 		);
 	}
 
-	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
-		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
-		Optional<BlockPos> cutoffPos = Optional.empty();
-		Optional<BlockPos> damageCutoffPos = Optional.empty();
-		BlockPos.MutableBlockPos mutablePos = pos.mutable();
-		boolean vent = geyserType == GeyserType.HYDROTHERMAL_VENT;
-		for (int i = 0; i < (vent ? VENT_DISTANCE_IN_BLOCKS : ERUPTION_DISTANCE_IN_BLOCKS); i++) {
-			if (level.hasChunkAt(mutablePos.move(direction))) {
-				BlockState state = level.getBlockState(mutablePos);
-				if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
-					break;
-				}
-				boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
-				boolean mismatchesWater = geyserType.isWater() && !state.getFluidState().is(Fluids.WATER);
-				boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
-				if (mismatchesAir || mismatchesWater || mismatchesLava) {
-					if (cutoffPos.isEmpty()) cutoffPos = Optional.of(mutablePos.immutable());
-				}
-				if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
-					if (damageCutoffPos.isEmpty()) damageCutoffPos = Optional.of(mutablePos.immutable());
-				}
-			}
+	@NotNull
+	private EruptionColumn getEruptionColumn(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		EruptionColumn eruptionColumn = this.eruptionColumn;
+		if (eruptionColumn == null || !eruptionColumn.isValid(level, pos, geyserType, direction)) {
+			eruptionColumn = new EruptionColumn(this, level, pos, geyserType, direction);
+			this.eruptionColumn = eruptionColumn;
 		}
-		AABB eruption = aabb(pos, mutablePos.immutable());
-		mutablePos.move(direction.getOpposite());
+		return eruptionColumn;
+	}
 
-		AABB effectiveEruption = cutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-		AABB damagingEruption = damageCutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
+	public void invalidateEruptionColumn() {
+		this.eruptionColumn = null;
+	}
+
+	private static boolean isEruptionReactive(@NotNull BlockState state) {
+		return state.is(BlockTags.FIRE) || state.is(BlockTags.CAMPFIRES) || state.is(BlockTags.CANDLES) || state.is(BlockTags.CANDLE_CAKES);
+	}
+
+	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		EruptionColumn eruptionColumn = this.getEruptionColumn(level, pos, geyserType, direction);
+		boolean vent = geyserType == GeyserType.HYDROTHERMAL_VENT;
+		AABB eruption = eruptionColumn.eruption;
+		AABB effectiveEruption = eruptionColumn.effectiveEruption;
+		AABB damagingEruption = eruptionColumn.damagingEruption;
 
-		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, maxEndPos);
+		AABB maxPossibleEruptionBox = eruptionColumn.getPossibleEruptionBoundingBox(this.eruptionProgress);
 		List<Entity> entities = level.getEntities(
 			EntityTypeTest.forClass(Entity.class),
 			maxPossibleEruptionBox,
 			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
 		);
-		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
-
-		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
-			Optional.of(this),
-			geyserStartPos,
-			effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
-			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
-		);
-		WindDisturbance<GeyserBlockEntity> baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
-			Optional.of(this),
-			geyserStartPos,
-			eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
-			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
-		);
+		Vec3 geyserStartPos = eruptionColumn.geyserStartPos;
 
 		if (!vent) {
+			WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = eruptionColumn.effectiveWindDisturbance;
+			WindDisturbance<GeyserBlockEntity> baseWindDisturbance = eruptionColumn.baseWindDisturbance;
 			if (level instanceof ServerLevel serverLevel) {
 				WindManager windManager = WindManager.getWindManager(serverLevel);
 				windManager.addWindDisturbance(effectiveWindDisturbance);
@@ -217,7 +201,7 @@ public class GeyserBlockEntity extends BlockEntity {
 			}
 		}
 
-		Vec3 movement = Vec3.atLowerCornerOf(direction.getNormal());
+		Vec3 movement = eruptionColumn.movement;
 		for (Entity entity : entities) {
 			AABB boundingBox = entity.getBoundingBox();
 			if (eruption.intersects(boundingBox)) {
@@ -259,7 +243,8 @@ public class GeyserBlockEntity extends BlockEntity {
 			}
 		}
 
-		for (BlockPos blockPos : BlockPos.betweenClosed(pos, mutablePos.immutable())) {
+		if (!eruptionColumn.hasReactiveBlocks) return;
+		for (BlockPos blockPos : BlockPos.betweenClosed(pos, eruptionColumn.endPos)) {
 			if (maxPossibleEruptionBox.contains(Vec3.atCenterOf(blockPos)) && level.hasChunkAt(blockPos)) {
 				BlockState state = level.getBlockState(blockPos);
 
@@ -291,25 +276,6 @@ public class GeyserBlockEntity extends BlockEntity {
 		}
 	}
 
-	@NotNull
-	private AABB getPossibleEruptionBoundingBox(@NotNull BlockPos pos, @NotNull BlockPos maxEndPos) {
-		double xDifference = maxEndPos.getX() - pos.getX();
-		double yDifference = maxEndPos.getY() - pos.getY();
-		double zDifference = maxEndPos.getZ() - pos.getZ();
-		double endX = pos.getX() + (xDifference * this.eruptionProgress);
-		double endY = pos.getY() + (yDifference * this.eruptionProgress);
-		double endZ = pos.getZ() + (zDifference * this.eruptionProgress);
-
-        return new AABB(
-			Math.min(pos.getX(), endX),
-			Math.min(pos.getY(), endY),
-			Math.min(pos.getZ(), endZ),
-			Math.max(pos.getX(), endX) + 1D,
-			Math.max(pos.getY(), endY) + 1D,
-			Math.max(pos.getZ(), endZ) + 1D
-		);
-	}
-
 	public void advanceStage(Level level, BlockPos pos, @NotNull BlockState state, GeyserStage geyserStage, boolean natural, RandomSource random) {
 		if (geyserStage == GeyserStage.ERUPTING || !natural) {
 			this.eruptionProgress = 0F;
@@ -346,6 +312,7 @@ public class GeyserBlockEntity extends BlockEntity {
 	}
 
 	public void setStageAndCooldown(@NotNull Level level, BlockPos pos, @NotNull BlockState state, GeyserStage geyserStage, RandomSource random) {
+		if (state.getValue(GeyserBlock.GEYSER_STAGE) != geyserStage) this.invalidateEruptionColumn();
 		level.setBlockAndUpdate(pos, state.setValue(GeyserBlock.GEYSER_STAGE, geyserStage));
 		if (geyserStage == GeyserStage.ACTIVE) {
 			this.ticksUntilNextEvent = random.nextInt(MIN_ACTIVE_TICKS, MAX_ACTIVE_TICKS);
@@ -354,6 +321,25 @@ public class GeyserBlockEntity extends BlockEntity {
 		}
 	}
 
+	@NotNull
+	private static AABB createPossibleEruptionBoundingBox(@NotNull BlockPos pos, @NotNull BlockPos maxEndPos, float eruptionProgress) {
+		double xDifference = maxEndPos.getX() - pos.getX();
+		double yDifference = maxEndPos.getY() - pos.getY();
+		double zDifference = maxEndPos.getZ() - pos.getZ();
+		double endX = pos.getX() + (xDifference * eruptionProgress);
+		double endY = pos.getY() + (yDifference * eruptionProgress);
+		double endZ = pos.getZ() + (zDifference * eruptionProgress);
+
+        return new AABB(
+			Math.min(pos.getX(), endX),
+			Math.min(pos.getY(), endY),
+			Math.min(pos.getZ(), endZ),
+			Math.max(pos.getX(), endX) + 1D,
+			Math.max(pos.getY(), endY) + 1D,
+			Math.max(pos.getZ(), endZ) + 1D
+		);
+	}
+
 	@Environment(EnvType.CLIENT)
 	public void tickClient(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, RandomSource random) {
 		GeyserType geyserType = state.getValue(GeyserBlock.GEYSER_TYPE);
@@ -389,4 +375,118 @@ public class GeyserBlockEntity extends BlockEntity {
 		ClientWindManager.addWindDisturbance(windDisturbance);
 	}
 
+	/**
+	 * The blocks and bounding boxes affected by a Geyser's eruption.
+	 * <p>
+	 * Stores every block state that was checked while walking the eruption path,
+	 * and stays valid until one of those states changes or the Geyser's stage, type, or direction changes.
+	 */
+	private static final class EruptionColumn {
+		private final GeyserType geyserType;
+		private final Direction direction;
+		private final BlockState[] checkedStates;
+		private final int checkedBlocks;
+		private final BlockPos pos;
+		private final BlockPos maxEndPos;
+		private final BlockPos endPos;
+		private final AABB eruption;
+		private final AABB effectiveEruption;
+		private final AABB damagingEruption;
+		private final Vec3 geyserStartPos;
+		private final Vec3 movement;
+		private final boolean hasReactiveBlocks;
+		private final WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance;
+		private final WindDisturbance<GeyserBlockEntity> baseWindDisturbance;
+		private float possibleEruptionBoxProgress = -1F;
+		private AABB possibleEruptionBox;
+
+		private EruptionColumn(GeyserBlockEntity geyser, Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+			this.geyserType = geyserType;
+			this.direction = direction;
+			this.pos = pos.immutable();
+			this.maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
+
+			Optional<BlockPos> cutoffPos = Optional.empty();
+			Optional<BlockPos> damageCutoffPos = Optional.empty();
+			BlockPos.MutableBlockPos mutablePos = pos.mutable();
+			boolean vent = geyserType == GeyserType.HYDROTHERMAL_VENT;
+			int eruptionDistance = vent ? VENT_DISTANCE_IN_BLOCKS : ERUPTION_DISTANCE_IN_BLOCKS;
+			this.checkedStates = new BlockState[eruptionDistance];
+			int checkedBlocks = 0;
+			for (int i = 0; i < eruptionDistance; i++) {
+				checkedBlocks = i + 1;
+				if (level.hasChunkAt(mutablePos.move(direction))) {
+					BlockState state = level.getBlockState(mutablePos);
+					this.checkedStates[i] = state;
+					if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
+						break;
+					}
+					boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
+					boolean mismatchesWater = geyserType.isWater() && !state.getFluidState().is(Fluids.WATER);
+					boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
+					if (mismatchesAir || mismatchesWater || mismatchesLava) {
+						if (cutoffPos.isEmpty()) cutoffPos = Optional.of(mutablePos.immutable());
+					}
+					if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
+						if (damageCutoffPos.isEmpty()) damageCutoffPos = Optional.of(mutablePos.immutable());
+					}
+				}
+			}
+			this.checkedBlocks = checkedBlocks;
+			this.eruption = aabb(pos, mutablePos.immutable());
+			mutablePos.move(direction.getOpposite());
+			this.endPos = mutablePos.immutable();
+
+			this.effectiveEruption = cutoffPos.map(blockPos -> aabb(pos, blockPos.relative(direction.getOpposite())))
+				.orElseGet(() -> aabb(pos, this.endPos));
+			this.damagingEruption = damageCutoffPos.map(blockPos -> aabb(pos, blockPos.relative(direction.getOpposite())))
+				.orElseGet(() -> aabb(pos, this.endPos));
+
+			// Only blocks up to the end of the eruption can be lit or extinguished.
+			boolean hasReactiveBlocks = false;
+			for (int i = 0; i < checkedBlocks - 1; i++) {
+				BlockState state = this.checkedStates[i];
+				if (state != null && isEruptionReactive(state)) {
+					hasReactiveBlocks = true;
+					break;
+				}
+			}
+			this.hasReactiveBlocks = hasReactiveBlocks;
+
+			this.geyserStartPos = Vec3.atCenterOf(pos);
+			this.movement = Vec3.atLowerCornerOf(direction.getNormal());
+			this.effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+				Optional.of(geyser),
+				this.geyserStartPos,
+				this.effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+				WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
+			);
+			this.baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+				Optional.of(geyser),
+				this.geyserStartPos,
+				this.eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+				WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
+			);
+		}
+
+		private boolean isValid(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+			if (this.geyserType != geyserType || this.direction != direction || !this.pos.equals(pos)) return false;
+			BlockPos.MutableBlockPos mutablePos = pos.mutable();
+			for (int i = 0; i < this.checkedBlocks; i++) {
+				BlockState state = level.hasChunkAt(mutablePos.move(direction)) ? level.getBlockState(mutablePos) : null;
+				if (state != this.checkedStates[i]) return false;
+			}
+			return true;
+		}
+
+		@NotNull
+		private AABB getPossibleEruptionBoundingBox(float eruptionProgress) {
+			if (this.possibleEruptionBox == null || this.possibleEruptionBoxProgress != eruptionProgress) {
+				this.possibleEruptionBoxProgress = eruptionProgress;
+				this.possibleEruptionBox = createPossibleEruptionBoundingBox(this.pos, this.maxEndPos, eruptionProgress);
+			}
+			return this.possibleEruptionBox;
+		}
+	}
+
 }
@@ -64,6 +64,10 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final String BASE_TEXTURE = "textures/entity/hanging_tendril/";
+	private static final ResourceLocation[] MILK_TEXTURES = createFrameTextures("milk", MILK_FRAMES);
+	private static final ResourceLocation[] ACTIVE_TEXTURES = createFrameTextures("active", ACTIVE_FRAMES);
+	private static final ResourceLocation[] TWITCHING_TEXTURES = createFrameTextures("twitch", TWITCHING_FRAMES);
+	private static final ResourceLocation[] INACTIVE_TEXTURES = createFrameTextures("inactive", INACTIVE_FRAMES);
 	private final VibrationSystem.Listener vibrationListener;
 	private final VibrationSystem.User vibrationUser = this.createVibrationUser();
 	private VibrationSystem.Data vibrationData;
@@ -73,7 +77,7 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 	public int ringOutTicksLeft;
 	private int activeTicks;
 	//CLIENT ONLY
-	public ResourceLocation texture = WWConstants.id("textures/entity/hanging_tendril/inactive1.png");
+	public ResourceLocation texture = INACTIVE_TEXTURES[0];
 	public boolean twitching;
 	public boolean active;
 	public boolean milking;
@@ -85,10 +89,12 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 	}
 
 	public void serverTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
-		if (this.ticksToStopTwitching <= 0) {
-			level.setBlockAndUpdate(pos, state.setValue(HangingTendrilBlock.TWITCHING, false));
+		if (this.ticksToStopTwitching > 0) {
+			--this.ticksToStopTwitching;
+		} else if (state.getValue(HangingTendrilBlock.TWITCHING)) {
+			state = state.setValue(HangingTendrilBlock.TWITCHING, false);
+			level.setBlockAndUpdate(pos, state);
 		}
-		--this.ticksToStopTwitching;
 		if (this.ringOutTicksLeft >= 0) {
 			--this.ringOutTicksLeft;
 		} else if (state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
@@ -117,14 +123,23 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		this.active = !SculkSensorBlock.canActivate(state);
 		long time = level.getGameTime();
 		if (milking) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "milk" + (((time / MILK_ANIM_SPEED) % MILK_FRAMES) + 1) + ".png");
+			this.texture = MILK_TEXTURES[(int) ((time / MILK_ANIM_SPEED) % MILK_FRAMES)];
 		} else if (active) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "active" + (((time / ACTIVE_ANIM_SPEED) % ACTIVE_FRAMES) + 1) + ".png");
+			this.texture = ACTIVE_TEXTURES[(int) ((time / ACTIVE_ANIM_SPEED) % ACTIVE_FRAMES)];
 		} else if (twitching) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "twitch" + (((time / TWITCHING_ANIM_SPEED) % TWITCHING_FRAMES) + 1) + ".png");
+			this.texture = TWITCHING_TEXTURES[(int) ((time / TWITCHING_ANIM_SPEED) % TWITCHING_FRAMES)];
 		} else {
-			this.texture = WWConstants.id(BASE_TEXTURE + "inactive" + (((time / INACTIVE_ANIM_SPEED) % INACTIVE_FRAMES) + 1) + ".png");
+			this.texture = INACTIVE_TEXTURES[(int) ((time / INACTIVE_ANIM_SPEED) % INACTIVE_FRAMES)];
+		}
+	}
+
+	@NotNull
+	private static ResourceLocation[] createFrameTextures(@NotNull String name, int frames) {
+		ResourceLocation[] textures = new ResourceLocation[frames];
+		for (int frame = 0; frame < frames; frame++) {
+			textures[frame] = WWConstants.id(BASE_TEXTURE + name + (frame + 1) + ".png");
 		}
+		return textures;
 	}
 
 	public int getStoredXP() {
@@ -52,6 +52,10 @@ public class IcicleBlockEntity extends BlockEntity implements GameEventListener.
 	private final Listener vibrationListener;
 	private final User vibrationUser = this.createVibrationUser();
 	private Data vibrationData;
+	// Only kept for the top of a hanging Icicle, and never saved.
+	@Nullable
+	private BlockPos cachedTipPos;
+	private int cachedColumnLength;
 
 	public IcicleBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.ICICLE, pos, state);
@@ -63,6 +67,25 @@ public class IcicleBlockEntity extends BlockEntity implements GameEventListener.
 		Ticker.tick(level, this.getVibrationData(), this.getVibrationUser());
 	}
 
+	@Nullable
+	public BlockPos getCachedTipPos() {
+		return this.cachedTipPos;
+	}
+
+	public int getCachedColumnLength() {
+		return this.cachedColumnLength;
+	}
+
+	public void setCachedColumn(@NotNull BlockPos tipPos, int columnLength) {
+		this.cachedTipPos = tipPos;
+		this.cachedColumnLength = columnLength;
+	}
+
+	public void clearCachedColumn() {
+		this.cachedTipPos = null;
+		this.cachedColumnLength = 0;
+	}
+
 	@Override
 	public void loadAdditional(@NotNull CompoundTag tag, HolderLookup.Provider provider) {
 		super.loadAdditional(tag, provider);
@@ -93,6 +93,12 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	public boolean closing;
 
 	protected long updateTime;
+	/**
+	 * Set whenever the lid changes in a way clients can't predict on their own.
+	 * <p>
+	 * Clients simulate the closing lid themselves, so the server only syncs lifts, the start of closing, and slams.
+	 */
+	private boolean lidChanged;
 
 	public StoneChestBlockEntity(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
 		super(WWBlockEntityTypes.STONE_CHEST, blockPos, blockState);
@@ -100,9 +106,14 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 
 	public static void serverStoneTick(@NotNull Level level, BlockPos pos, @NotNull BlockState state, @NotNull StoneChestBlockEntity stoneChest) {
 		if (level instanceof ServerLevel serverLevel) {
-			StoneChestBlockEntity coupledStoneChest = ChestUtil.getCoupledStoneChestBlockEntity(serverLevel, pos, state).orElse(null);
 			long gameTime = level.getGameTime();
 			if (gameTime != stoneChest.updateTime) {
+				if (stoneChest.isLidIdle()) {
+					stoneChest.prevOpenProgress = stoneChest.openProgress;
+					stoneChest.updateTime = gameTime;
+					return;
+				}
+				StoneChestBlockEntity coupledStoneChest = ChestUtil.getCoupledStoneChestBlockEntity(serverLevel, pos, state).orElse(null);
 				if (stoneChest.cooldownTicks > 0) {
 					--stoneChest.cooldownTicks;
 				}
@@ -115,10 +126,12 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 					stoneChest.openProgress = Math.max(0F, stoneChest.openProgress - LID_SLAM_INTERVAL);
 					if (!stoneChest.closing) {
 						stoneChest.closing = true;
+						stoneChest.lidChanged = true;
 						playSound(serverLevel, pos, state, WWSounds.BLOCK_STONE_CHEST_CLOSE_START, WWSounds.BLOCK_STONE_CHEST_CLOSE_START_UNDERWATER, 0.3F);
 					}
 					if (stoneChest.openProgress <= 0F) {
 						stoneChest.onLidSlam(serverLevel, pos, state, coupledStoneChest);
+						stoneChest.lidChanged = true;
 					}
 				}
 				stoneChest.updateTime = gameTime;
@@ -210,6 +223,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.openProgress = Mth.clamp(this.openProgress + (liftAmount * 1.5F), 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
 		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * (MAX_TIME_OPEN) * WWBlockConfig.get().stoneChest.getStoneChestTimer());
+		this.lidChanged = true;
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
 		}
@@ -219,11 +233,16 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.openProgress = Mth.clamp(liftAmount, 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
 		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * MAX_TIME_OPEN * WWBlockConfig.get().stoneChest.getStoneChestTimer());
+		this.lidChanged = true;
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
 		}
 	}
 
+	private boolean isLidIdle() {
+		return !this.lidChanged && this.openProgress <= 0F && this.stillLidTicks <= 0 && this.cooldownTicks <= 0;
+	}
+
 	public int getComparatorOutput() {
 		return (int) (this.openProgress * 30F);
 	}
@@ -274,16 +293,13 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	}
 
 	public void syncLidValuesAndUpdate(@Nullable StoneChestBlockEntity otherStoneChest) {
-		boolean shouldSend = !this.level.isClientSide && this.openProgress != this.prevOpenProgress;
 		if (otherStoneChest != null) {
 			this.syncValues(otherStoneChest);
-			if (shouldSend) {
-				WWStoneChestLidPacket.sendToAll(otherStoneChest);
-			}
 		}
-		if (shouldSend) {
+		if (this.lidChanged && this.level != null && !this.level.isClientSide) {
 			WWStoneChestLidPacket.sendToAll(this);
 		}
+		this.lidChanged = false;
 	}
 
 	private void syncValues(@NotNull StoneChestBlockEntity otherStoneChest) {
@@ -297,6 +313,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		otherStoneChest.cooldownTicks = this.cooldownTicks;
 		otherStoneChest.closing = this.closing;
 		otherStoneChest.updateTime = this.updateTime;
+		otherStoneChest.lidChanged = false;
 	}
 
 	@Override
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.frozenblock.wilderwild.WWConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Simulates Leaf Litter falling from leaves without spawning an entity for every drop.
+ * <p>
+ * Each level keeps its falling drops in flat arrays that are advanced together once per tick.
+ * The origin of every pending drop is also stored on its chunk, so drops that were still falling
+ * when the chunk was saved start falling again once it loads.
+ */
+public final class FallingLeafLitter {
+	public static final AttachmentType<List<PendingDrop>> PENDING_DROPS = AttachmentRegistry.<List<PendingDrop>>builder()
+		.persistent(PendingDrop.CODEC.listOf())
+		.buildAndRegister(WWConstants.id("falling_leaf_litter"));
+	private static final double INITIAL_VELOCITY = -0.05D;
+	private static final double GRAVITY = 0.04D;
+	private static final Map<ResourceKey<Level>, FallingLeafLitter> LITTER_PER_LEVEL = new HashMap<>();
+
+	private int size;
+	private long[] origins = new long[16];
+	private double[] heights = new double[16];
+	private double[] velocities = new double[16];
+	private Block[] litterBlocks = new Block[16];
+
+	private FallingLeafLitter() {
+	}
+
+	public static void init() {}
+
+	public static void drop(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull Block leafLitter) {
+		getOrCreate(level).add(pos.asLong(), pos.getY(), INITIAL_VELOCITY, leafLitter);
+		ChunkAccess chunk = level.getChunk(pos);
+		List<PendingDrop> pendingDrops = new ArrayList<>(chunk.getAttachedOrElse(PENDING_DROPS, List.of()));
+		pendingDrops.add(new PendingDrop(pos.immutable(), leafLitter));
+		chunk.setAttached(PENDING_DROPS, pendingDrops);
+		chunk.setUnsaved(true);
+	}
+
+	public static void tick(@NotNull ServerLevel level) {
+		FallingLeafLitter litter = LITTER_PER_LEVEL.get(level.dimension());
+		if (litter != null && litter.size > 0) litter.tickDrops(level);
+	}
+
+	public static void onChunkLoad(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		List<PendingDrop> pendingDrops = chunk.getAttached(PENDING_DROPS);
+		if (pendingDrops == null || pendingDrops.isEmpty()) return;
+		FallingLeafLitter litter = getOrCreate(level);
+		for (PendingDrop pendingDrop : pendingDrops) {
+			litter.add(pendingDrop.pos.asLong(), pendingDrop.pos.getY(), INITIAL_VELOCITY, pendingDrop.leafLitter);
+		}
+	}
+
+	public static void onChunkUnload(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		FallingLeafLitter litter = LITTER_PER_LEVEL.get(level.dimension());
+		if (litter == null) return;
+		ChunkPos chunkPos = chunk.getPos();
+		for (int i = litter.size - 1; i >= 0; i--) {
+			long origin = litter.origins[i];
+			if (SectionPos.blockToSectionCoord(BlockPos.getX(origin)) == chunkPos.x && SectionPos.blockToSectionCoord(BlockPos.getZ(origin)) == chunkPos.z) {
+				litter.remove(i);
+			}
+		}
+	}
+
+	public static void clear() {
+		LITTER_PER_LEVEL.clear();
+	}
+
+	@NotNull
+	private static FallingLeafLitter getOrCreate(@NotNull ServerLevel level) {
+		return LITTER_PER_LEVEL.computeIfAbsent(level.dimension(), dimension -> new FallingLeafLitter());
+	}
+
+	private void add(long origin, double height, double velocity, Block leafLitter) {
+		if (this.size == this.origins.length) {
+			int capacity = this.size * 2;
+			this.origins = Arrays.copyOf(this.origins, capacity);
+			this.heights = Arrays.copyOf(this.heights, capacity);
+			this.velocities = Arrays.copyOf(this.velocities, capacity);
+			this.litterBlocks = Arrays.copyOf(this.litterBlocks, capacity);
+		}
+		this.origins[this.size] = origin;
+		this.heights[this.size] = height;
+		this.velocities[this.size] = velocity;
+		this.litterBlocks[this.size] = leafLitter;
+		this.size += 1;
+	}
+
+	private void remove(int index) {
+		int last = this.size - 1;
+		this.origins[index] = this.origins[last];
+		this.heights[index] = this.heights[last];
+		this.velocities[index] = this.velocities[last];
+		this.litterBlocks[index] = this.litterBlocks[last];
+		this.litterBlocks[last] = null;
+		this.size = last;
+	}
+
+	private void tickDrops(@NotNull ServerLevel level) {
+		BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+		int minBuildHeight = level.getMinBuildHeight();
+		for (int i = this.size - 1; i >= 0; i--) {
+			long origin = this.origins[i];
+			int x = BlockPos.getX(origin);
+			int z = BlockPos.getZ(origin);
+			double height = this.heights[i];
+			double velocity = this.velocities[i] - GRAVITY;
+			double nextHeight = height + velocity;
+
+			int landingY = findLandingY(level, mutablePos, x, z, height, nextHeight, minBuildHeight);
+			if (landingY != Integer.MIN_VALUE) {
+				land(level, mutablePos.set(x, landingY + 1, z), this.litterBlocks[i]);
+				removePendingDrop(level, origin, this.litterBlocks[i]);
+				this.remove(i);
+			} else if (nextHeight <= minBuildHeight) {
+				removePendingDrop(level, origin, this.litterBlocks[i]);
+				this.remove(i);
+			} else {
+				this.heights[i] = nextHeight;
+				this.velocities[i] = velocity;
+			}
+		}
+	}
+
+	/**
+	 * Finds the block a drop falling from {@code height} to {@code nextHeight} lands on,
+	 * checking only the blocks entered during this tick.
+	 *
+	 * @return the y coordinate of the block that was hit, or {@link Integer#MIN_VALUE} if the drop is still falling.
+	 */
+	private static int findLandingY(
+		@NotNull ServerLevel level, @NotNull BlockPos.MutableBlockPos mutablePos, int x, int z, double height, double nextHeight, int minBuildHeight
+	) {
+		int lowestY = Math.max(Mth.floor(nextHeight), minBuildHeight);
+		for (int y = Mth.ceil(height) - 1; y >= lowestY; y--) {
+			BlockState state = level.getBlockState(mutablePos.set(x, y, z));
+			if (!state.getFluidState().isEmpty()) return y;
+			VoxelShape collisionShape = state.getCollisionShape(level, mutablePos);
+			if (!collisionShape.isEmpty() && y + collisionShape.max(Direction.Axis.Y) >= nextHeight) return y;
+		}
+		return Integer.MIN_VALUE;
+	}
+
+	private static void land(@NotNull ServerLevel level, @NotNull BlockPos placePos, @NotNull Block leafLitter) {
+		BlockState stateToReplace = level.getBlockState(placePos);
+		if (FallingLeafUtil.isSafePosToPlaceLitter(level, placePos, stateToReplace, leafLitter)) {
+			BlockState litterState = leafLitter.defaultBlockState();
+			level.setBlockAndUpdate(placePos, litterState);
+			level.sendParticles(
+				new BlockParticleOption(ParticleTypes.BLOCK, litterState),
+				placePos.getX() + 0.5D,
+				placePos.getY() + 0.1D,
+				placePos.getZ() + 0.5D,
+				level.random.nextInt(8, 18),
+				0.3D, 0D, 0.3D,
+				0.05D
+			);
+		}
+	}
+
+	private static void removePendingDrop(@NotNull ServerLevel level, long origin, Block leafLitter) {
+		ChunkAccess chunk = level.getChunk(SectionPos.blockToSectionCoord(BlockPos.getX(origin)), SectionPos.blockToSectionCoord(BlockPos.getZ(origin)));
+		List<PendingDrop> pendingDrops = chunk.getAttached(PENDING_DROPS);
+		if (pendingDrops == null) return;
+		List<PendingDrop> remainingDrops = new ArrayList<>(pendingDrops);
+		for (int i = 0; i < remainingDrops.size(); i++) {
+			PendingDrop pendingDrop = remainingDrops.get(i);
+			if (pendingDrop.pos.asLong() == origin && pendingDrop.leafLitter == leafLitter) {
+				remainingDrops.remove(i);
+				break;
+			}
+		}
+		if (remainingDrops.isEmpty()) {
+			chunk.removeAttached(PENDING_DROPS);
+		} else {
+			chunk.setAttached(PENDING_DROPS, remainingDrops);
+		}
+		chunk.setUnsaved(true);
+	}
+
+	public record PendingDrop(BlockPos pos, Block leafLitter) {
+		public static final Codec<PendingDrop> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+			BlockPos.CODEC.fieldOf("pos").forGetter(PendingDrop::pos),
+			BuiltInRegistries.BLOCK.byNameCodec().fieldOf("leaf_litter").forGetter(PendingDrop::leafLitter)
+		).apply(instance, PendingDrop::new));
+	}
+}
@@ -23,9 +23,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import net.frozenblock.wilderwild.block.LeafLitterBlock;
-import net.frozenblock.wilderwild.entity.FallingLeafTicker;
+import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
-import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -109,12 +108,7 @@ public class FallingLeafUtil {
 						0.05D
 					);
 					sendLeafClusterParticle(world, pos, fallingLeafData);
-					fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafTicker.createAndSpawn(
-						WWEntityTypes.FALLING_LEAVES,
-						world,
-						pos,
-						leafLitterBlock
-					));
+					fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafLitter.drop(world, pos, leafLitterBlock));
 				}
 			}
 		}
@@ -138,19 +132,21 @@ public class FallingLeafUtil {
 		return false;
 	}
 
-	public static void addFallingLeafParticles(@NotNull BlockState state, Level world, BlockPos pos, RandomSource random) {
-		Optional<FallingLeafUtil.FallingLeafData> optionalFallingLeafData = FallingLeafUtil.getFallingLeafData(state.getBlock());
-		if (optionalFallingLeafData.isPresent()) {
-			FallingLeafUtil.FallingLeafData fallingLeafData = optionalFallingLeafData.get();
-			ParticleType<LeafParticleOptions> leafParticle = fallingLeafData.particle();
-			LeafParticleData leafParticleData = getLeafParticleData(leafParticle);
-			if (random.nextFloat() <= leafParticleData.particleChance() * leafParticleData.frequencyModifier().get()) {
-				BlockPos blockPos = pos.below();
-				BlockState blockState = world.getBlockState(blockPos);
-				if (!Block.isFaceFull(blockState.getCollisionShape(world, blockPos), Direction.UP)) {
-					ParticleUtils.spawnParticleBelow(world, pos, random, createLeafParticleOptions(fallingLeafData));
-				}
-			}
+	/**
+	 * Returns the chance of a leaf particle spawning from the given leaves, with its frequency modifier already applied.
+	 * <p>
+	 * Leaves bake this value and only look it up again when {@link WWAmbienceAndMiscConfig.Client#LEAF_FREQUENCY_REVISION} changes.
+	 */
+	public static float getEffectiveParticleChance(@NotNull FallingLeafData fallingLeafData) {
+		LeafParticleData leafParticleData = getLeafParticleData(fallingLeafData.particle());
+		return (float) (leafParticleData.particleChance() * leafParticleData.frequencyModifier().get());
+	}
+
+	public static void addFallingLeafParticles(@NotNull FallingLeafData fallingLeafData, Level world, BlockPos pos, RandomSource random) {
+		BlockPos blockPos = pos.below();
+		BlockState blockState = world.getBlockState(blockPos);
+		if (!Block.isFaceFull(blockState.getCollisionShape(world, blockPos), Direction.UP)) {
+			ParticleUtils.spawnParticleBelow(world, pos, random, createLeafParticleOptions(fallingLeafData));
 		}
 	}
 
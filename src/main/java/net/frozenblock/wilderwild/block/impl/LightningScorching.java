@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.block.ScorchedBlock;
+import net.frozenblock.wilderwild.tag.WWBlockTags;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.gameevent.GameEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scorches the Sand around Lightning strikes.
+ * <p>
+ * Strikes are queued and resolved together at the end of the level's tick.
+ * Every strike picks a precomputed ball of offsets, and the blocks from every strike are grouped by chunk
+ * before {@link ScorchedBlock#SCORCH_MAP} is applied to them in one pass, so repeated strikes on the same spot
+ * only touch each block once.
+ * <p>
+ * The inner ball cracks blocks in the inner replaceable Scorched Sand feature tags,
+ * and the outer ring scorches blocks in the outer replaceable tags.
+ * The struck block itself is always scorched exactly once, as {@link ScorchedBlock#scorch} would.
+ */
+public final class LightningScorching {
+	private static final int MIN_RADIUS = 1;
+	private static final int MAX_RADIUS = 3;
+	private static final float INNER_PLACEMENT_CHANCE = 0.95F;
+	private static final float OUTER_RING_PLACEMENT_CHANCE = 0.895F;
+	private static final float OUTER_RING_START = 0.6F;
+	private static final float FADE_START = 0.8F;
+	private static final byte SCORCH = 1;
+	private static final byte CRACK = 2;
+	private static final ScorchMask[] MASKS = createMasks();
+	private static final Map<ResourceKey<Level>, List<QueuedStrike>> STRIKES_PER_LEVEL = new HashMap<>();
+
+	private LightningScorching() {
+		throw new UnsupportedOperationException("LightningScorching contains only static declarations.");
+	}
+
+	public static void queueStrike(@NotNull ServerLevel level, @NotNull BlockPos strikePos, @NotNull BlockState strikeState) {
+		STRIKES_PER_LEVEL.computeIfAbsent(level.dimension(), dimension -> new ArrayList<>()).add(new QueuedStrike(strikePos.immutable(), strikeState));
+	}
+
+	public static void tick(@NotNull ServerLevel level) {
+		List<QueuedStrike> strikes = STRIKES_PER_LEVEL.get(level.dimension());
+		if (strikes == null || strikes.isEmpty()) return;
+
+		RandomSource random = level.getRandom();
+		Long2ObjectOpenHashMap<Long2ByteOpenHashMap> scorchesPerChunk = new Long2ObjectOpenHashMap<>();
+		for (QueuedStrike strike : strikes) {
+			int strikeX = strike.pos.getX();
+			int strikeY = strike.pos.getY();
+			int strikeZ = strike.pos.getZ();
+			ScorchMask mask = MASKS[Mth.randomBetweenInclusive(random, MIN_RADIUS, MAX_RADIUS) - MIN_RADIUS];
+			for (int offset = 0; offset < mask.size(); offset++) {
+				float distance = mask.distances[offset];
+				byte scorch = distance < OUTER_RING_START ? rollInner(random, distance) : rollOuterRing(random, distance);
+				if (scorch == 0) continue;
+				queueScorch(
+					scorchesPerChunk,
+					strikeX + mask.offsets[offset * 3],
+					strikeY + mask.offsets[offset * 3 + 1],
+					strikeZ + mask.offsets[offset * 3 + 2],
+					scorch
+				);
+			}
+		}
+
+		BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+		for (Long2ObjectMap.Entry<Long2ByteOpenHashMap> chunkEntry : scorchesPerChunk.long2ObjectEntrySet()) {
+			long chunkPos = chunkEntry.getLongKey();
+			int chunkX = ChunkPos.getX(chunkPos);
+			int chunkZ = ChunkPos.getZ(chunkPos);
+			if (!level.hasChunk(chunkX, chunkZ)) continue;
+			LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+			for (Long2ByteMap.Entry entry : chunkEntry.getValue().long2ByteEntrySet()) {
+				mutablePos.set(entry.getLongKey());
+				scorchBlock(level, chunk, mutablePos, entry.getByteValue());
+			}
+		}
+		// The struck block is scorched exactly once from the state it had when struck, like ScorchedBlock#scorch.
+		// It is skipped if anything changed it since, such as another strike's mask or an earlier strike on the same block.
+		for (QueuedStrike strike : strikes) {
+			if (level.getBlockState(strike.pos) != strike.state) continue;
+			BlockState scorchedState = ScorchedBlock.getScorchedState(strike.state);
+			if (scorchedState != null) {
+				level.setBlockAndUpdate(strike.pos, scorchedState);
+				level.gameEvent(null, GameEvent.BLOCK_CHANGE, strike.pos);
+			}
+		}
+		strikes.clear();
+	}
+
+	public static void clear() {
+		STRIKES_PER_LEVEL.clear();
+	}
+
+	private static byte rollInner(@NotNull RandomSource random, float distance) {
+		return random.nextFloat() < INNER_PLACEMENT_CHANCE * getFade(distance) ? CRACK : 0;
+	}
+
+	private static byte rollOuterRing(@NotNull RandomSource random, float distance) {
+		return random.nextFloat() < OUTER_RING_PLACEMENT_CHANCE * getFade(distance) ? SCORCH : 0;
+	}
+
+	private static float getFade(float distance) {
+		return distance <= FADE_START ? 1F : 1F - ((distance - FADE_START) / (1F - FADE_START));
+	}
+
+	private static void queueScorch(@NotNull Long2ObjectOpenHashMap<Long2ByteOpenHashMap> scorchesPerChunk, int x, int y, int z, byte scorch) {
+		Long2ByteOpenHashMap scorches = scorchesPerChunk.computeIfAbsent(
+			ChunkPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z)),
+			chunkPos -> new Long2ByteOpenHashMap()
+		);
+		long pos = BlockPos.asLong(x, y, z);
+		if (scorches.get(pos) < scorch) scorches.put(pos, scorch);
+	}
+
+	private static void scorchBlock(@NotNull ServerLevel level, @NotNull LevelChunk chunk, @NotNull BlockPos.MutableBlockPos pos, byte scorch) {
+		BlockState state = chunk.getBlockState(pos);
+		if (scorch == CRACK) {
+			if (!state.is(WWBlockTags.SCORCHED_SAND_FEATURE_INNER_REPLACEABLE) && !state.is(WWBlockTags.RED_SCORCHED_SAND_FEATURE_INNER_REPLACEABLE)) return;
+		} else if (!state.is(WWBlockTags.SCORCHED_SAND_FEATURE_REPLACEABLE) && !state.is(WWBlockTags.RED_SCORCHED_SAND_FEATURE_REPLACEABLE)) {
+			return;
+		}
+		BlockState scorchedState = ScorchedBlock.getScorchedState(state);
+		if (scorchedState == null) return;
+		if (scorch == CRACK) {
+			BlockState crackedState = ScorchedBlock.getScorchedState(scorchedState);
+			if (crackedState != null) scorchedState = crackedState;
+		}
+		if (!isExposed(level, pos)) return;
+		level.setBlockAndUpdate(pos, scorchedState);
+	}
+
+	private static boolean isExposed(@NotNull ServerLevel level, @NotNull BlockPos.MutableBlockPos pos) {
+		for (Direction direction : Direction.values()) {
+			pos.move(direction);
+			boolean isAir = level.getBlockState(pos).isAir();
+			pos.move(direction.getOpposite());
+			if (isAir) return true;
+		}
+		return false;
+	}
+
+	private static ScorchMask @NotNull [] createMasks() {
+		ScorchMask[] masks = new ScorchMask[MAX_RADIUS - MIN_RADIUS + 1];
+		for (int radius = MIN_RADIUS; radius <= MAX_RADIUS; radius++) {
+			LongArrayList offsets = new LongArrayList();
+			for (int x = -radius; x <= radius; x++) {
+				for (int y = -radius; y <= radius; y++) {
+					for (int z = -radius; z <= radius; z++) {
+						// The struck block is handled separately, see tick.
+						if ((x != 0 || y != 0 || z != 0) && x * x + y * y + z * z <= radius * radius) offsets.add(BlockPos.asLong(x, y, z));
+					}
+				}
+			}
+			int[] offsetArray = new int[offsets.size() * 3];
+			float[] distances = new float[offsets.size()];
+			for (int i = 0; i < offsets.size(); i++) {
+				long offset = offsets.getLong(i);
+				int x = BlockPos.getX(offset);
+				int y = BlockPos.getY(offset);
+				int z = BlockPos.getZ(offset);
+				offsetArray[i * 3] = x;
+				offsetArray[i * 3 + 1] = y;
+				offsetArray[i * 3 + 2] = z;
+				distances[i] = Mth.sqrt(x * x + y * y + z * z) / radius;
+			}
+			masks[radius - MIN_RADIUS] = new ScorchMask(offsetArray, distances);
+		}
+		return masks;
+	}
+
+	private record ScorchMask(int[] offsets, float[] distances) {
+		private int size() {
+			return this.distances.length;
+		}
+	}
+
+	private record QueuedStrike(BlockPos pos, BlockState state) {
+	}
+}
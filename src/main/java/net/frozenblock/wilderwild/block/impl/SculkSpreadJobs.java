@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.block.SculkSpreader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs {@link SculkSpreader}s over multiple ticks instead of spreading them all at once.
+ * <p>
+ * Each running {@link Job} advances its cursors at most {@link #UPDATES_PER_TICK} times per server tick,
+ * and can be cancelled or queried for progress at any point.
+ */
+public final class SculkSpreadJobs {
+	public static final int UPDATES_PER_TICK = 8;
+	private static final List<Job> JOBS = new ArrayList<>();
+
+	private SculkSpreadJobs() {
+		throw new UnsupportedOperationException("SculkSpreadJobs contains only static declarations.");
+	}
+
+	@NotNull
+	public static Job start(@NotNull ServerLevel level, @NotNull SculkSpreader spreader, @NotNull BlockPos pos, @Nullable Consumer<Job> onFinish) {
+		Job job = new Job(level, spreader, pos, onFinish);
+		JOBS.add(job);
+		return job;
+	}
+
+	public static void tick() {
+		Iterator<Job> iterator = JOBS.iterator();
+		while (iterator.hasNext()) {
+			Job job = iterator.next();
+			if (job.tick(UPDATES_PER_TICK)) {
+				iterator.remove();
+				if (!job.cancelled && job.onFinish != null) job.onFinish.accept(job);
+			}
+		}
+	}
+
+	@NotNull
+	public static List<Job> getJobs() {
+		return List.copyOf(JOBS);
+	}
+
+	public static int cancelAll() {
+		int cancelled = JOBS.size();
+		JOBS.forEach(Job::cancel);
+		return cancelled;
+	}
+
+	public static void clear() {
+		JOBS.clear();
+	}
+
+	public static final class Job {
+		private final ServerLevel level;
+		private final SculkSpreader spreader;
+		private final BlockPos pos;
+		@Nullable
+		private final Consumer<Job> onFinish;
+		private final int startingCharge;
+		private int updates;
+		private boolean cancelled;
+
+		private Job(@NotNull ServerLevel level, @NotNull SculkSpreader spreader, @NotNull BlockPos pos, @Nullable Consumer<Job> onFinish) {
+			this.level = level;
+			this.spreader = spreader;
+			this.pos = pos;
+			this.onFinish = onFinish;
+			this.startingCharge = Math.max(1, getRemainingCharge(spreader));
+		}
+
+		private boolean tick(int maxUpdates) {
+			if (this.cancelled) return true;
+			for (int i = 0; i < maxUpdates && !this.spreader.getCursors().isEmpty(); i++) {
+				this.spreader.updateCursors(this.level, this.pos, this.level.getRandom(), true);
+				this.updates += 1;
+			}
+			return this.spreader.getCursors().isEmpty();
+		}
+
+		public void cancel() {
+			this.cancelled = true;
+		}
+
+		public boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		@NotNull
+		public BlockPos getPos() {
+			return this.pos;
+		}
+
+		public int getUpdates() {
+			return this.updates;
+		}
+
+		/**
+		 * @return how much of the starting charge has been used up, from 0 to 1.
+		 */
+		public float getProgress() {
+			return Mth.clamp(1F - ((float) getRemainingCharge(this.spreader) / this.startingCharge), 0F, 1F);
+		}
+
+		private static int getRemainingCharge(@NotNull SculkSpreader spreader) {
+			int charge = 0;
+			for (SculkSpreader.ChargeCursor cursor : spreader.getCursors()) {
+				charge += cursor.getCharge();
+			}
+			return charge;
+		}
+	}
+}
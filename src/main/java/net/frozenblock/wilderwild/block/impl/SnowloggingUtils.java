@@ -35,6 +35,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
+import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -143,4 +144,22 @@ public class SnowloggingUtils {
 		return false;
     }
 
+	/**
+	 * A snowlogged shape merged from a block's own shape and its snow layer shape.
+	 * <p>
+	 * Most blocks return the same {@link VoxelShape} instances for a given {@link BlockState},
+	 * so the result of {@link Shapes#or(VoxelShape, VoxelShape)} can be reused until either input changes.
+	 * Context-dependent shapes simply produce a new merge when they no longer match.
+	 */
+	public record MergedShape(VoxelShape original, VoxelShape snowShape, VoxelShape shape) {
+		@NotNull
+		public static MergedShape merge(VoxelShape original, VoxelShape snowShape) {
+			return new MergedShape(original, snowShape, Shapes.or(original, snowShape));
+		}
+
+		public boolean matches(VoxelShape original, VoxelShape snowShape) {
+			return this.original == original && this.snowShape == snowShape;
+		}
+	}
+
 }
@@ -18,7 +18,8 @@
 
 package net.frozenblock.wilderwild.block.termite;
 
-import java.util.List;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
 import java.util.Optional;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.registry.WWBlocks;
@@ -43,6 +44,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class TermiteBlockBehaviors {
+	@Nullable
+	private static volatile BehaviorIndex behaviorIndex;
 
 	private static @NotNull ResourceKey<TermiteBlockBehavior> createKey(String string) {
 		return ResourceKey.create(WilderWildRegistries.TERMITE_BLOCK_BEHAVIOR, WWConstants.id(string));
@@ -184,20 +187,42 @@ public final class TermiteBlockBehaviors {
 
 	public static Optional<Holder<TermiteBlockBehavior>> getTermiteBlockBehavior(@NotNull RegistryAccess registryAccess, Block edibleBlock, boolean isNatural) {
 		Registry<TermiteBlockBehavior> registry = registryAccess.registryOrThrow(WilderWildRegistries.TERMITE_BLOCK_BEHAVIOR);
-		List<Holder.Reference<TermiteBlockBehavior>> behaviors = registry.holders()
-			.filter(reference -> {
+		BehaviorIndex index = behaviorIndex;
+		if (index == null || index.registry != registry) {
+			index = new BehaviorIndex(registry);
+			behaviorIndex = index;
+		}
+		Optional<Holder<TermiteBlockBehavior>> behavior = (isNatural ? index.naturalBehaviors : index.playerBehaviors).get(edibleBlock);
+		return behavior != null ? behavior : Optional.empty();
+	}
+
+	/**
+	 * Clears the cached {@link Block} to {@link TermiteBlockBehavior} index.
+	 * <p>
+	 * Must be called whenever tags are reloaded, as tag-based behaviors may resolve to a different set of blocks afterward.
+	 */
+	public static void clearBehaviorIndex() {
+		behaviorIndex = null;
+	}
+
+	private static final class BehaviorIndex {
+		private final Registry<TermiteBlockBehavior> registry;
+		private final Map<Block, Optional<Holder<TermiteBlockBehavior>>> naturalBehaviors = new Reference2ObjectOpenHashMap<>();
+		private final Map<Block, Optional<Holder<TermiteBlockBehavior>>> playerBehaviors = new Reference2ObjectOpenHashMap<>();
+
+		private BehaviorIndex(@NotNull Registry<TermiteBlockBehavior> registry) {
+			this.registry = registry;
+			// The first registered behavior for a block takes priority, matching registry iteration order.
+			registry.holders().forEach(reference -> {
 				TermiteBlockBehavior termiteBlockBehavior = reference.value();
-				if (termiteBlockBehavior.getEdibleBlocks().contains(edibleBlock.builtInRegistryHolder())) {
-					return isNatural ? termiteBlockBehavior.naturalTermiteUsable() : termiteBlockBehavior.playerPlacedTermiteUsable();
+				Optional<Holder<TermiteBlockBehavior>> behavior = Optional.of(reference);
+				for (Holder<Block> blockHolder : termiteBlockBehavior.getEdibleBlocks()) {
+					Block block = blockHolder.value();
+					if (termiteBlockBehavior.naturalTermiteUsable()) this.naturalBehaviors.putIfAbsent(block, behavior);
+					if (termiteBlockBehavior.playerPlacedTermiteUsable()) this.playerBehaviors.putIfAbsent(block, behavior);
 				}
-				return false;
-			})
-			.toList();
-
-		if (!behaviors.isEmpty()) {
-			return Optional.of(behaviors.getFirst());
+			});
 		}
-		return Optional.empty();
 	}
 
 	public static void bootstrap(BootstrapContext<TermiteBlockBehavior> bootstrapContext) {
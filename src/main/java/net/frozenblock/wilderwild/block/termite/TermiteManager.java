@@ -21,6 +21,8 @@ package net.frozenblock.wilderwild.block.termite;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -39,7 +41,12 @@ import net.minecraft.core.particles.BlockParticleOption;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.RandomSource;
@@ -62,6 +69,8 @@ public class TermiteManager {
 	public static final int PARTICLE_COUNT = 6;
 	public static final float BLOCK_SOUND_VOLUME = 0.6F;
 	private final ArrayList<Termite> termites = new ArrayList<>();
+	private final LongArrayList particlePositions = new LongArrayList();
+	private final IntArrayList particleCounts = new IntArrayList();
 	public int ticksToNextTermite;
 	public int highestID;
 
@@ -102,29 +111,24 @@ public class TermiteManager {
 		int maxTermites = maxTermites(natural, awake, canSpawn);
 		RandomSource random = level.getRandom();
 
-		this.termites.removeIf(termite -> {
-			if (termite.tick(level, natural, random)) {
-				if (level instanceof ServerLevel serverLevel) {
-					BlockPos termitePos = termite.getPos();
-					serverLevel.sendParticles(
-						WWParticleTypes.TERMITE,
-						termitePos.getX() + 0.5D,
-						termitePos.getY() + 0.5D,
-						termitePos.getZ() + 0.5D,
-						termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT,
-						0D,
-						0D,
-						0D,
-						0D
-					);
+		if (!(level instanceof ServerLevel serverLevel) || TermiteTickScheduler.shouldTickTermites(serverLevel, pos, this.termites.size())) {
+			this.termites.removeIf(termite -> {
+				if (termite.tick(level, natural, random)) {
+					if (level instanceof ServerLevel) {
+						this.particlePositions.add(termite.getPos().asLong());
+						this.particleCounts.add(termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT);
+					}
+				} else {
+					level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+					level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
+					return true;
 				}
-			} else {
-				level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
-				return true;
+				return false;
+			});
+			if (level instanceof ServerLevel serverLevel) {
+				this.sendTermiteParticles(serverLevel);
 			}
-			return false;
-		});
+		}
 
 		if (this.termites.size() < maxTermites) {
 			if (this.ticksToNextTermite > 0) {
@@ -145,6 +149,51 @@ public class TermiteManager {
 	}
 	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
 	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
+	public static final double PARTICLE_SEND_DISTANCE = 32D;
+
+	/**
+	 * Sends this tick's Termite particles to each nearby player as a single bundled packet,
+	 * rather than sending one packet per Termite.
+	 */
+	private void sendTermiteParticles(@NotNull ServerLevel level) {
+		int particleCount = this.particlePositions.size();
+		if (particleCount == 0) return;
+
+		List<ClientboundLevelParticlesPacket> particlePackets = new ArrayList<>(particleCount);
+		for (int i = 0; i < particleCount; i++) {
+			long termitePos = this.particlePositions.getLong(i);
+			particlePackets.add(
+				new ClientboundLevelParticlesPacket(
+					WWParticleTypes.TERMITE,
+					false,
+					BlockPos.getX(termitePos) + 0.5D,
+					BlockPos.getY(termitePos) + 0.5D,
+					BlockPos.getZ(termitePos) + 0.5D,
+					0F,
+					0F,
+					0F,
+					0F,
+					this.particleCounts.getInt(i)
+				)
+			);
+		}
+		this.particlePositions.clear();
+		this.particleCounts.clear();
+
+		for (ServerPlayer player : level.players()) {
+			List<Packet<? super ClientGamePacketListener>> playerPackets = new ArrayList<>();
+			for (ClientboundLevelParticlesPacket particlePacket : particlePackets) {
+				if (player.distanceToSqr(particlePacket.getX(), particlePacket.getY(), particlePacket.getZ()) < PARTICLE_SEND_DISTANCE * PARTICLE_SEND_DISTANCE) {
+					playerPackets.add(particlePacket);
+				}
+			}
+			if (playerPackets.size() == 1) {
+				player.connection.send(playerPackets.getFirst());
+			} else if (!playerPackets.isEmpty()) {
+				player.connection.send(new ClientboundBundlePacket(playerPackets));
+			}
+		}
+	}
 
 	public void clearTermites(@NotNull Level level) {
 		for (Termite termite : this.termites) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.termite;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Spreads Termite updates across ticks so that each level stays within {@link WWBlockConfig.TermiteConfig#maxUpdatesPerTick}.
+ * <p>
+ * Every Termite Mound reports how many Termites it wants to update each tick.
+ * If the previous tick requested more updates than the budget allows, Mounds are split into evenly-sized groups
+ * and only one group is updated per tick, so every Mound still progresses at the same, reduced rate.
+ */
+public final class TermiteTickScheduler {
+	private static final Map<ResourceKey<Level>, LevelBudget> BUDGET_PER_LEVEL = new HashMap<>();
+
+	private TermiteTickScheduler() {
+		throw new UnsupportedOperationException("TermiteTickScheduler contains only static declarations.");
+	}
+
+	public static boolean shouldTickTermites(@NotNull ServerLevel level, @NotNull BlockPos moundPos, int termiteCount) {
+		if (termiteCount <= 0) return false;
+		LevelBudget budget = BUDGET_PER_LEVEL.computeIfAbsent(level.dimension(), dimension -> new LevelBudget());
+		long gameTime = level.getGameTime();
+		if (budget.gameTime != gameTime) {
+			budget.gameTime = gameTime;
+			int maxUpdates = Math.max(1, WWBlockConfig.get().termite.maxUpdatesPerTick);
+			budget.stride = Math.max(1, Mth.positiveCeilDiv(budget.requestedUpdates, maxUpdates));
+			budget.requestedUpdates = 0;
+		}
+		budget.requestedUpdates += termiteCount;
+		return budget.stride == 1 || Math.floorMod(moundPos.hashCode() + gameTime, budget.stride) == 0;
+	}
+
+	public static void clear() {
+		BUDGET_PER_LEVEL.clear();
+	}
+
+	private static class LevelBudget {
+		private long gameTime = Long.MIN_VALUE;
+		private int requestedUpdates;
+		private int stride = 1;
+	}
+}
@@ -21,12 +21,13 @@ package net.frozenblock.wilderwild.command;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import java.util.List;
+import net.frozenblock.wilderwild.block.impl.SculkSpreadJobs;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.SculkSpreader;
 import org.jetbrains.annotations.NotNull;
 
@@ -42,6 +43,10 @@ public final class SpreadSculkCommand {
 						false,
 						10
 					)
+				).then(
+					Commands.literal("cancel").executes(context -> cancelSpreading(context.getSource()))
+				).then(
+					Commands.literal("progress").executes(context -> getProgress(context.getSource()))
 				).then(
 					Commands.argument("position", BlockPosArgument.blockPos())
 						.executes(
@@ -79,20 +84,42 @@ public final class SpreadSculkCommand {
 	private static int spreadSculk(@NotNull CommandSourceStack source, BlockPos pos, boolean worldGen, int charge) {
 		SculkSpreader sculkSpreader = worldGen ? SculkSpreader.createWorldGenSpreader() : SculkSpreader.createLevelSpreader();
 		sculkSpreader.addCursors(pos, charge);
-		ServerLevel level = source.getLevel();
-		while (!sculkSpreader.getCursors().isEmpty()) {
-			sculkSpreader.updateCursors(level, pos, level.getRandom(), true);
-		}
-		source.sendSuccess(
-			() -> Component.translatable(
-				worldGen ? "commands.sculkspread.worldgen.success" : "commands.sculkspread.success",
-				pos.getX(),
-				pos.getY(),
-				pos.getZ(),
-				charge
-			),
-			true
+		SculkSpreadJobs.start(
+			source.getLevel(),
+			sculkSpreader,
+			pos,
+			job -> source.sendSuccess(
+				() -> Component.translatable(
+					worldGen ? "commands.sculkspread.worldgen.success" : "commands.sculkspread.success",
+					pos.getX(),
+					pos.getY(),
+					pos.getZ(),
+					charge
+				),
+				true
+			)
 		);
+		source.sendSuccess(() -> Component.translatable("commands.sculkspread.started", pos.getX(), pos.getY(), pos.getZ(), charge), true);
 		return 1;
 	}
+
+	private static int cancelSpreading(@NotNull CommandSourceStack source) {
+		int cancelled = SculkSpreadJobs.cancelAll();
+		source.sendSuccess(() -> Component.translatable("commands.sculkspread.cancel", cancelled), true);
+		return cancelled;
+	}
+
+	private static int getProgress(@NotNull CommandSourceStack source) {
+		List<SculkSpreadJobs.Job> jobs = SculkSpreadJobs.getJobs();
+		if (jobs.isEmpty()) {
+			source.sendFailure(Component.translatable("commands.sculkspread.progress.none"));
+			return 0;
+		}
+		for (SculkSpreadJobs.Job job : jobs) {
+			BlockPos pos = job.getPos();
+			int percent = (int) (job.getProgress() * 100F);
+			source.sendSuccess(() -> Component.translatable("commands.sculkspread.progress", pos.getX(), pos.getY(), pos.getZ(), percent), false);
+		}
+		return jobs.size();
+	}
 }
@@ -71,6 +71,7 @@ public final class WWAmbienceAndMiscConfig {
 				Client.PALM_FROND_FREQUENCY = config.leafParticles.palmFrequency / 100D;
 				Client.MAPLE_LEAF_FREQUENCY = config.leafParticles.mapleFrequency / 100D;
 				Client.WILLOW_LEAF_FREQUENCY = config.leafParticles.willowFrequency / 100D;
+				Client.LEAF_FREQUENCY_REVISION += 1;
 			}
 		}
 	);
@@ -117,6 +118,8 @@ public final class WWAmbienceAndMiscConfig {
 		public static volatile double PALM_FROND_FREQUENCY = 1D;
 		public static volatile double MAPLE_LEAF_FREQUENCY = 1D;
 		public static volatile double WILLOW_LEAF_FREQUENCY = 1D;
+		// Bumped whenever the leaf frequencies change, so leaves know to re-bake their particle chances.
+		public static volatile int LEAF_FREQUENCY_REVISION = 0;
 	}
 
 	@CollapsibleObject
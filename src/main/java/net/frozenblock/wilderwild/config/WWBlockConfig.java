@@ -239,6 +239,9 @@ public final class WWBlockConfig {
 
 		@EntrySyncData("maxNaturalDistance")
 		public int maxNaturalDistance = 10;
+
+		@EntrySyncData("maxUpdatesPerTick")
+		public int maxUpdatesPerTick = 512;
 	}
 
 	public static class MesogleaConfig {
@@ -146,6 +146,9 @@ public final class WWEntityConfig {
 
 		@EntrySyncData(value = "lightningSmokeParticles", behavior = SyncBehavior.UNSYNCABLE)
 		public boolean lightningSmokeParticles = true;
+
+		@EntrySyncData("coalesceLightningStrikes")
+		public boolean coalesceLightningStrikes = true;
 	}
 
 	public static class AllayConfig {
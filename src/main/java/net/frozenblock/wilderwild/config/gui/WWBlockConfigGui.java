@@ -311,10 +311,21 @@ public final class WWBlockConfigGui {
 			configInstance
 		);
 
+		var maxTermiteUpdatesPerTick = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(text("max_termite_updates_per_tick"), modifiedTermite.maxUpdatesPerTick, 16, 2048)
+				.setDefaultValue(defaultConfig.termite.maxUpdatesPerTick)
+				.setSaveConsumer(newValue -> termite.maxUpdatesPerTick = newValue)
+				.setTooltip(tooltip("max_termite_updates_per_tick"))
+				.build(),
+			termite.getClass(),
+			"maxUpdatesPerTick",
+			configInstance
+		);
+
 		var termiteCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, text("termite"),
 			false,
 			tooltip("termite"),
-			termitesOnlyEatNaturalBlocks, maxTermiteDistance, maxNaturalTermiteDistance
+			termitesOnlyEatNaturalBlocks, maxTermiteDistance, maxNaturalTermiteDistance, maxTermiteUpdatesPerTick
 		);
 
 		var bonemealDandelions = FrozenClothConfig.syncedEntry(
@@ -115,10 +115,21 @@ public final class WWEntityConfigGui {
 			configInstance
 		);
 
+		var coalesceLightningStrikes = FrozenClothConfig.syncedEntry(
+			entryBuilder.startBooleanToggle(text("coalesce_lightning_strikes"), modifiedLightning.coalesceLightningStrikes)
+				.setDefaultValue(defaultConfig.lightning.coalesceLightningStrikes)
+				.setSaveConsumer(newValue -> lightning.coalesceLightningStrikes = newValue)
+				.setTooltip(tooltip("coalesce_lightning_strikes"))
+				.build(),
+			lightning.getClass(),
+			"coalesceLightningStrikes",
+			configInstance
+		);
+
 		var lightningCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, text("lightning"),
 			false,
 			tooltip("lightning"),
-			lightningScorchesSand, lightningBlockParticles, lightningSmokeParticles
+			lightningScorchesSand, lightningBlockParticles, lightningSmokeParticles, coalesceLightningStrikes
 		);
 
 		var keyframeAllayDance = FrozenClothConfig.syncedEntry(
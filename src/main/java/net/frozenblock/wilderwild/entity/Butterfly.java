@@ -21,7 +21,6 @@ package net.frozenblock.wilderwild.entity;
 import com.mojang.serialization.Dynamic;
 import java.util.Objects;
 import java.util.Optional;
-import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.butterfly.ButterflyAi;
 import net.frozenblock.wilderwild.entity.impl.WWBottleable;
@@ -33,6 +32,7 @@ import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
+import net.frozenblock.wilderwild.wind.EntityWindField;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
@@ -365,7 +365,7 @@ public class Butterfly extends PathfinderMob implements FlyingAnimal, WWBottleab
 		}
 
 		if (this.level() instanceof ServerLevel serverLevel) {
-			Vec3 wind = WindManager.getWindManager(serverLevel).getWindMovement(this.position(), 1D, 100D, 100D).scale(0.01D);
+			Vec3 wind = EntityWindField.CRITTERS.getWindMovement(serverLevel, this.position()).scale(0.01D);
 			wind = wind.subtract(0D, wind.y * 0.7D, 0D);
 			this.setDeltaMovement(this.getDeltaMovement().add(wind.scale(0.02D)));
 		}
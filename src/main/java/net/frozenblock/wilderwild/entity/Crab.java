@@ -19,9 +19,7 @@
 package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -113,6 +111,7 @@ import net.minecraft.world.level.gameevent.vibrations.VibrationSystem;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -149,6 +148,11 @@ public class Crab extends Animal implements VibrationSystem, Bucketable, Variant
 	private final VibrationSystem.User vibrationUser;
 	private VibrationSystem.Data vibrationData;
 	public Vec3 prevMovement;
+	private long wallProbeGameTime = Long.MIN_VALUE;
+	@Nullable
+	private Vec3 wallProbePosition;
+	@Nullable
+	private Vec3 nearestWall;
 	public boolean cancelMovementToDescend;
 
 	// CLIENT VARIABLES
@@ -404,38 +408,68 @@ public class Crab extends Animal implements VibrationSystem, Bucketable, Variant
 		return this.isBaby() ? 0.8D : 2D;
 	}
 
+	/**
+	 * Finds the closest point of the nearest wall surrounding this Crab.
+	 * <p>
+	 * The result is memoized for the current tick and position, as the wall is looked up several times per tick.
+	 */
 	@Nullable
 	public Vec3 findNearestWall() {
+		long gameTime = this.level().getGameTime();
+		Vec3 position = this.position();
+		if (this.wallProbeGameTime == gameTime && this.wallProbePosition == position) return this.nearestWall;
+		this.wallProbeGameTime = gameTime;
+		this.wallProbePosition = position;
+
 		BlockPos crabPos = this.blockPosition();
-		ArrayList<Vec3> vecs = new ArrayList<>();
-		for (BlockPos pos : BlockPos.betweenClosed(crabPos.offset(-1, 0, -1), crabPos.offset(1, 0, 1))) {
-			BlockState state = this.level().getBlockState(pos);
-			VoxelShape collisionShape = state.getCollisionShape(this.level(), pos, CollisionContext.of(this));
-			if (isWallPosSlowable(pos, state, collisionShape)) {
-				Optional<Vec3> optionalVec3 = FrozenShapes.closestPointTo(pos, collisionShape, this.position());
-				if (optionalVec3.isPresent()) {
-					vecs.add(optionalVec3.get());
-				} else if (state.getFluidState().is(FluidTags.WATER)) {
-					vecs.add(pos.getCenter());
+		BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+		CollisionContext collisionContext = CollisionContext.of(this);
+		Vec3 eyePosition = this.getEyePosition();
+		double lowestDistance = Double.MAX_VALUE;
+		double wallX = 0D;
+		double wallY = 0D;
+		double wallZ = 0D;
+		for (int x = -1; x <= 1; x++) {
+			for (int z = -1; z <= 1; z++) {
+				mutablePos.setWithOffset(crabPos, x, 0, z);
+				BlockState state = this.level().getBlockState(mutablePos);
+				VoxelShape collisionShape = state.getCollisionShape(this.level(), mutablePos, collisionContext);
+				if (!isWallPosSlowable(mutablePos, state, collisionShape)) continue;
+
+				double pointX;
+				double pointY;
+				double pointZ;
+				if (collisionShape == Shapes.block()) {
+					pointX = Mth.clamp(position.x, mutablePos.getX(), mutablePos.getX() + 1D);
+					pointY = Mth.clamp(position.y, mutablePos.getY(), mutablePos.getY() + 1D);
+					pointZ = Mth.clamp(position.z, mutablePos.getZ(), mutablePos.getZ() + 1D);
+				} else {
+					Optional<Vec3> optionalVec3 = FrozenShapes.closestPointTo(mutablePos, collisionShape, position);
+					if (optionalVec3.isPresent()) {
+						Vec3 closestPoint = optionalVec3.get();
+						pointX = closestPoint.x;
+						pointY = closestPoint.y;
+						pointZ = closestPoint.z;
+					} else if (state.getFluidState().is(FluidTags.WATER)) {
+						pointX = mutablePos.getX() + 0.5D;
+						pointY = mutablePos.getY() + 0.5D;
+						pointZ = mutablePos.getZ() + 0.5D;
+					} else {
+						continue;
+					}
 				}
-			}
-		}
-		return getClosestPos(vecs);
-	}
 
-	@Nullable
-	public Vec3 getClosestPos(@NotNull List<Vec3> vec3s) {
-		double lowestDistance = Double.MAX_VALUE;
-		Vec3 selectedVec3 = null;
-		Vec3 thisPos = this.getEyePosition();
-		for (Vec3 vec3 : vec3s) {
-			double distance = vec3.distanceTo(thisPos);
-			if (distance < lowestDistance) {
-				lowestDistance = distance;
-				selectedVec3 = vec3;
+				double distance = eyePosition.distanceToSqr(pointX, pointY, pointZ);
+				if (distance < lowestDistance) {
+					lowestDistance = distance;
+					wallX = pointX;
+					wallY = pointY;
+					wallZ = pointZ;
+				}
 			}
 		}
-		return selectedVec3;
+		this.nearestWall = lowestDistance != Double.MAX_VALUE ? new Vec3(wallX, wallY, wallZ) : null;
+		return this.nearestWall;
 	}
 
 	public boolean isWallPosSlowable(@NotNull BlockPos pos, @NotNull BlockState state, @NotNull VoxelShape collisionShape) {
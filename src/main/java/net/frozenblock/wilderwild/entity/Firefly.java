@@ -21,9 +21,9 @@ package net.frozenblock.wilderwild.entity;
 import com.mojang.serialization.Dynamic;
 import java.util.Objects;
 import java.util.Optional;
-import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.firefly.FireflyAi;
+import net.frozenblock.wilderwild.entity.ai.firefly.FireflySwarms;
 import net.frozenblock.wilderwild.entity.impl.WWBottleable;
 import net.frozenblock.wilderwild.entity.variant.firefly.FireflyColor;
 import net.frozenblock.wilderwild.entity.variant.firefly.FireflyColors;
@@ -33,6 +33,7 @@ import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWMemoryModuleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
+import net.frozenblock.wilderwild.wind.EntityWindField;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
@@ -425,7 +426,7 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, WWBottleable
 		}
 
 		if (this.level() instanceof ServerLevel serverLevel) {
-			Vec3 wind = WindManager.getWindManager(serverLevel).getWindMovement(this.position(), 1D, 100D, 100D).scale(0.01D);
+			Vec3 wind = EntityWindField.CRITTERS.getWindMovement(serverLevel, this.position()).scale(0.01D);
 			wind = wind.subtract(0D, wind.y * 0.7D, 0D);
 			this.setDeltaMovement(this.getDeltaMovement().add(wind.scale(0.02D)));
 		}
@@ -433,8 +434,10 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, WWBottleable
 
 	@Override
 	protected void customServerAiStep() {
+		ServerLevel serverLevel = (ServerLevel) this.level();
+		FireflySwarms.track(serverLevel, this);
 		this.level().getProfiler().push("fireflyBrain");
-		this.getBrain().tick((ServerLevel) this.level(), this);
+		this.getBrain().tick(serverLevel, this);
 		this.level().getProfiler().pop();
 		this.level().getProfiler().push("fireflyActivityUpdate");
 		FireflyAi.updateActivities(this);
@@ -19,13 +19,10 @@
 package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import net.frozenblock.lib.entity.api.EntityUtils;
 import net.frozenblock.lib.entity.api.NoFlopAbstractFish;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
@@ -119,7 +116,8 @@ public class Jellyfish extends NoFlopAbstractFish implements VariantHolder<Jelly
 	private static final EntityDataAccessor<String> VARIANT = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.STRING);
 	private static final EntityDataAccessor<Boolean> CAN_REPRODUCE = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> IS_BABY = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
-	private static final Map<ResourceKey<Level>, Integer> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new HashMap<>();
+	private static final Object2IntOpenHashMap<ResourceKey<Level>> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new Object2IntOpenHashMap<>();
+	private static final Object2IntOpenHashMap<ResourceKey<Level>> PEARLESCENT_JELLYFISH_PER_LEVEL = new Object2IntOpenHashMap<>();
 	public final TargetingConditions targetingConditions = TargetingConditions.forNonCombat().ignoreInvisibilityTesting().ignoreLineOfSight().selector(this::canTargetEntity);
 	public float xBodyRot;
 	public float xRot1;
@@ -139,6 +137,9 @@ public class Jellyfish extends NoFlopAbstractFish implements VariantHolder<Jelly
 	private int forcedAge;
 	private int forcedAgeTimer;
 	private Optional<JellyfishVariant> jellyfishVariant = Optional.empty();
+	@Nullable
+	private ResourceKey<Level> countedDimension;
+	private boolean countedAsPearlescent;
 
 	public Jellyfish(@NotNull EntityType<? extends Jellyfish> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -146,23 +147,37 @@ public class Jellyfish extends NoFlopAbstractFish implements VariantHolder<Jelly
 	}
 
 	public static int getJellyfishPerLevel(@NotNull ServerLevel level, boolean pearlescent) {
-		AtomicInteger count = new AtomicInteger();
-		ResourceKey<Level> dimension = level.dimension();
-		if (!NON_PEARLESCENT_JELLYFISH_PER_LEVEL.containsKey(dimension)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Jellyfish jellyfish && (pearlescent == jellyfish.getVariantByLocation().isPearlescent())) {
-					count.addAndGet(1);
-				}
-			});
-			NON_PEARLESCENT_JELLYFISH_PER_LEVEL.put(dimension, count.get());
-		} else {
-			count.set(NON_PEARLESCENT_JELLYFISH_PER_LEVEL.get(dimension));
-		}
-		return count.get();
+		return (pearlescent ? PEARLESCENT_JELLYFISH_PER_LEVEL : NON_PEARLESCENT_JELLYFISH_PER_LEVEL).getInt(level.dimension());
+	}
+
+	public static void onEntityLoad(@NotNull Entity entity, @NotNull ServerLevel level) {
+		if (entity instanceof Jellyfish jellyfish) jellyfish.startCounting(level.dimension());
+	}
+
+	public static void onEntityUnload(@NotNull Entity entity) {
+		if (entity instanceof Jellyfish jellyfish) jellyfish.stopCounting();
 	}
 
-	public static void clearLevelToNonPearlescentCount() {
+	public static void clearJellyfishPerLevel() {
 		NON_PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+		PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+	}
+
+	private void startCounting(@NotNull ResourceKey<Level> dimension) {
+		this.stopCounting();
+		JellyfishVariant variant = this.getVariantByLocation();
+		this.countedAsPearlescent = variant != null && variant.isPearlescent();
+		this.countedDimension = dimension;
+		(this.countedAsPearlescent ? PEARLESCENT_JELLYFISH_PER_LEVEL : NON_PEARLESCENT_JELLYFISH_PER_LEVEL).addTo(dimension, 1);
+	}
+
+	private void stopCounting() {
+		if (this.countedDimension == null) return;
+		Object2IntOpenHashMap<ResourceKey<Level>> jellyfishPerLevel = this.countedAsPearlescent ? PEARLESCENT_JELLYFISH_PER_LEVEL : NON_PEARLESCENT_JELLYFISH_PER_LEVEL;
+		if (jellyfishPerLevel.addTo(this.countedDimension, -1) <= 1) {
+			jellyfishPerLevel.removeInt(this.countedDimension);
+		}
+		this.countedDimension = null;
 	}
 
 	public static boolean checkJellyfishSpawnRules(
@@ -250,6 +265,9 @@ public class Jellyfish extends NoFlopAbstractFish implements VariantHolder<Jelly
 		}
 		if (VARIANT.equals(key)) {
 			this.jellyfishVariant = Optional.of(this.getVariantByLocation());
+			if (this.countedDimension != null) {
+				this.startCounting(this.countedDimension);
+			}
 		}
 		super.onSyncedDataUpdated(key);
 	}
@@ -19,6 +19,7 @@
 package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -130,6 +131,8 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 	@Nullable
 	private UUID lastAttackCommander;
 	@Nullable
+	private WeakReference<Entity> cachedAttackCommander;
+	@Nullable
 	private Vec3 prevBeakPosition;
 	@Nullable
 	private Vec3 beakPosition;
@@ -388,25 +391,15 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 
 	@Nullable
 	public Entity getLastAttackCommander() {
-		Entity commander = null;
-		if (this.lastAttackCommander != null && this.level() instanceof ServerLevel serverLevel) {
-			if (this.commanderWasPlayer) {
-				for (Player player : serverLevel.players()) {
-					if (player.getUUID().equals(this.lastAttackCommander)) {
-						commander = player;
-						break;
-					}
-				}
-			} else {
-				for (Entity entity : serverLevel.entityManager.getEntityGetter().getAll()) {
-					if (entity.getUUID().equals(this.lastAttackCommander)) {
-						commander = entity;
-						break;
-					}
-				}
-			}
+		if (this.lastAttackCommander == null || !(this.level() instanceof ServerLevel serverLevel)) return null;
 
+		Entity cachedCommander = this.cachedAttackCommander != null ? this.cachedAttackCommander.get() : null;
+		if (cachedCommander != null && !cachedCommander.isRemoved() && cachedCommander.level() == serverLevel && this.lastAttackCommander.equals(cachedCommander.getUUID())) {
+			return cachedCommander;
 		}
+
+		Entity commander = this.commanderWasPlayer ? serverLevel.getPlayerByUUID(this.lastAttackCommander) : serverLevel.getEntity(this.lastAttackCommander);
+		this.cachedAttackCommander = commander != null ? new WeakReference<>(commander) : null;
 		return commander;
 	}
 
@@ -415,10 +408,12 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 			this.attackHasCommander = true;
 			this.lastAttackCommander = entity.getUUID();
 			this.commanderWasPlayer = entity instanceof Player;
+			this.cachedAttackCommander = new WeakReference<>(entity);
 		} else {
 			this.attackHasCommander = false;
 			this.lastAttackCommander = null;
 			this.commanderWasPlayer = false;
+			this.cachedAttackCommander = null;
 		}
 	}
 
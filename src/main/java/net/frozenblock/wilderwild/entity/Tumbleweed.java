@@ -21,9 +21,9 @@ package net.frozenblock.wilderwild.entity;
 import java.util.List;
 import net.frozenblock.lib.entity.impl.EntityStepOnBlockInterface;
 import net.frozenblock.lib.tag.api.TagUtils;
-import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.block.MesogleaBlock;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.entity.impl.NearbyPlayerGrid;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWDamageTypes;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
@@ -31,6 +31,7 @@ import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.frozenblock.wilderwild.tag.WWEntityTags;
 import net.frozenblock.wilderwild.tag.WWItemTags;
+import net.frozenblock.wilderwild.wind.EntityWindField;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -68,7 +69,6 @@ import net.minecraft.world.entity.SpawnGroupData;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.item.ItemEntity;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -89,10 +89,13 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public static final int SPAWN_CHANCE = 60;
 	private static final double WIND_MULTIPLIER = 1.4D;
 	private static final double WIND_CLAMP = 0.2D;
+	private static final EntityWindField WIND_FIELD = new EntityWindField((windManager, pos) -> windManager.getWindMovement(pos, WIND_MULTIPLIER, WIND_CLAMP));
 	private static final float ROTATION_AMOUNT = 55F;
 	private static final float MAX_ITEM_OFFSET = 0.25F;
 	public static final double INACTIVE_PLAYER_DISTANCE_FROM = 24D;
 	public static final int MAX_INACTIVE_TICKS = 200;
+	public static final double DORMANT_PLAYER_DISTANCE_FROM = 32D;
+	public static final int DORMANT_TICK_INTERVAL = 4;
 	public static final int TUMBLEWEED_PLANT_ITEM_CHANCE = 15;
 	private static final EntityDataAccessor<ItemStack> ITEM_STACK = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.ITEM_STACK);
 	private static final EntityDataAccessor<Float> ITEM_X = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
@@ -216,10 +219,13 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		} else if (!this.isRemoved() && this.level() instanceof ServerLevel serverLevel) {
 			this.heal(1F);
 			double brightness = this.level().getBrightness(LightLayer.SKY, BlockPos.containing(this.getEyePosition()));
-			this.checkActive(brightness);
-			this.moveWithWind(serverLevel, brightness, deltaPos);
+			this.checkActive(serverLevel, brightness);
+			// Resting Tumbleweeds with no players nearby only react to wind and items every few ticks.
+			if (!this.isDormant(serverLevel, deltaPos) || (this.tickCount + this.getId()) % DORMANT_TICK_INTERVAL == 0) {
+				this.moveWithWind(serverLevel, brightness, deltaPos);
+				this.pickupItem();
+			}
 			this.tickAfterWindLeash();
-			this.pickupItem();
 		}
 	}
 
@@ -262,9 +268,8 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
-	private void checkActive(double brightness) {
-		Player entity = this.level().getNearestPlayer(this, -1D);
-		if (!this.requiresCustomPersistence() && ((brightness < 7 && (entity == null || entity.distanceTo(this) > INACTIVE_PLAYER_DISTANCE_FROM)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
+	private void checkActive(@NotNull ServerLevel serverLevel, double brightness) {
+		if (!this.requiresCustomPersistence() && ((brightness < 7 && !NearbyPlayerGrid.hasPlayerWithin(serverLevel, this, INACTIVE_PLAYER_DISTANCE_FROM)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
 			++this.ticksSinceActive;
 			if (this.ticksSinceActive >= MAX_INACTIVE_TICKS) {
 				this.destroy(false);
@@ -274,11 +279,17 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
+	private boolean isDormant(@NotNull ServerLevel serverLevel, @NotNull Vec3 deltaPos) {
+		return deltaPos.lengthSqr() < 1.0E-6D
+			&& !this.isLeashed()
+			&& !this.isPassenger()
+			&& !NearbyPlayerGrid.hasPlayerWithin(serverLevel, this, DORMANT_PLAYER_DISTANCE_FROM);
+	}
+
 	private void moveWithWind(@NotNull ServerLevel serverLevel, double brightness, @NotNull Vec3 deltaPos) {
 		if (!(this.isTouchingStoppingBlock || this.isTouchingStickingBlock)) {
 			Vec3 deltaMovement = this.getDeltaMovement();
-			WindManager windManager = WindManager.getWindManager(serverLevel);
-			Vec3 windVec = windManager.getWindMovement(this.position(), WIND_MULTIPLIER, WIND_CLAMP).scale(this.wasTouchingWater ? 0.16777216D : 1D);
+			Vec3 windVec = WIND_FIELD.getWindMovement(serverLevel, this.position()).scale(this.wasTouchingWater ? 0.16777216D : 1D);
 			double multiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667D) * (this.wasTouchingWater ? 0.16777216D : 1D);
 			deltaMovement = deltaMovement.add((windVec.x * 0.2D), 0D, (windVec.z * 0.2D));
 			deltaMovement = new Vec3(deltaMovement.x, deltaMovement.y < 0 ? deltaMovement.y * 0.88D : deltaMovement.y, deltaMovement.z);
@@ -21,8 +21,6 @@ package net.frozenblock.wilderwild.entity.ai.firefly;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.mojang.datafixers.util.Pair;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
@@ -51,17 +49,15 @@ import net.minecraft.world.entity.ai.sensing.SensorType;
 import net.minecraft.world.entity.schedule.Activity;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class FireflyAi {
 	protected static final List<SensorType<? extends Sensor<? super Firefly>>> SENSOR_TYPES = List.of(
-		SensorType.NEAREST_LIVING_ENTITIES,
 		WWSensorTypes.FIREFLY_SPECIFIC_SENSOR,
 		WWSensorTypes.FIREFLY_LEADER_SENSOR
 	);
 	protected static final List<MemoryModuleType<?>> MEMORY_TYPES = List.of(
 		MemoryModuleType.PATH,
-		MemoryModuleType.NEAREST_LIVING_ENTITIES,
-		MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES,
 		MemoryModuleType.WALK_TARGET,
 		MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE,
 		MemoryModuleType.LOOK_TARGET,
@@ -170,20 +166,31 @@ public class FireflyAi {
 		return pos.offset(level.random.nextIntBetweenInclusive(-7, 7), level.random.nextIntBetweenInclusive(-7, 7), level.random.nextIntBetweenInclusive(-7, 7));
 	}
 
-	public static List<Firefly> getNearbyFirefliesInRank(@NotNull Firefly firefly, boolean searchingForLeader) {
-		return new ArrayList<>(firefly.getBrain().getMemory(WWMemoryModuleTypes.NEARBY_FIREFLIES).orElse(ImmutableList.of()))
-			.stream()
-			.filter(otherFirefly -> otherFirefly.isSwarmLeader() == searchingForLeader)
-			.sorted(Comparator.comparingDouble(firefly::distanceToSqr))
-			.toList();
+	@Nullable
+	public static Firefly getNearestFireflyInRank(@NotNull Firefly firefly, boolean searchingForLeader) {
+		return getNearestFireflyInRank(firefly, searchingForLeader, Double.MAX_VALUE);
+	}
+
+	/**
+	 * The {@link WWMemoryModuleTypes#NEARBY_FIREFLIES} memory is already sorted by distance when sensed,
+	 * so the search stops at the first Firefly beyond {@code maxDistance}.
+	 */
+	@Nullable
+	public static Firefly getNearestFireflyInRank(@NotNull Firefly firefly, boolean searchingForLeader, double maxDistance) {
+		List<Firefly> nearbyFireflies = firefly.getBrain().getMemory(WWMemoryModuleTypes.NEARBY_FIREFLIES).orElse(ImmutableList.of());
+		for (Firefly otherFirefly : nearbyFireflies) {
+			if (otherFirefly.distanceTo(firefly) > maxDistance) return null;
+			if (otherFirefly.isAlive() && otherFirefly.isSwarmLeader() == searchingForLeader) return otherFirefly;
+		}
+		return null;
 	}
 
 	public static void transferLeadershipToRandomFirefly(@NotNull Firefly firefly) {
 		Brain<Firefly> brain = firefly.getBrain();
-		List<Firefly> nonLeaderFireflies = getNearbyFirefliesInRank(firefly, false);
+		Firefly nonLeaderFirefly = getNearestFireflyInRank(firefly, false);
 
-		if (!nonLeaderFireflies.isEmpty()) {
-			transferLeadershipTo(firefly, nonLeaderFireflies.getFirst());
+		if (nonLeaderFirefly != null) {
+			transferLeadershipTo(firefly, nonLeaderFirefly);
 			return;
 		}
 
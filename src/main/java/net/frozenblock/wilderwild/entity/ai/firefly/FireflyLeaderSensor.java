@@ -19,7 +19,6 @@
 package net.frozenblock.wilderwild.entity.ai.firefly;
 
 import com.google.common.collect.ImmutableSet;
-import java.util.List;
 import java.util.Set;
 import net.frozenblock.wilderwild.entity.Firefly;
 import net.frozenblock.wilderwild.registry.WWMemoryModuleTypes;
@@ -32,6 +31,7 @@ import org.jetbrains.annotations.NotNull;
 
 public class FireflyLeaderSensor extends Sensor<Firefly> {
 	private static final double NON_LEADER_MAX_DISTANCE = 6D;
+
 	@Override
 	@NotNull
 	public Set<MemoryModuleType<?>> requires() {
@@ -43,21 +43,18 @@ public class FireflyLeaderSensor extends Sensor<Firefly> {
 		Brain<Firefly> brain = firefly.getBrain();
 		if (!firefly.hasHome()) {
 			if (!firefly.isSwarmLeader()) {
-				List<Firefly> leaderFireflies = FireflyAi.getNearbyFirefliesInRank(firefly, true);
+				Firefly leaderFirefly = FireflyAi.getNearestFireflyInRank(firefly, true);
 
-				if (!leaderFireflies.isEmpty()) {
-					brain.setMemory(WWMemoryModuleTypes.SWARM_LEADER_TRACKER, new EntityTracker(leaderFireflies.getFirst(), true));
+				if (leaderFirefly != null) {
+					brain.setMemory(WWMemoryModuleTypes.SWARM_LEADER_TRACKER, new EntityTracker(leaderFirefly, true));
 					return;
 				} else {
 					FireflyAi.setSwarmLeader(firefly);
 				}
 			} else {
-				List<Firefly> nonLeaderFirefliesCloseBy = FireflyAi.getNearbyFirefliesInRank(firefly, false)
-					.stream().filter(otherFirefly -> otherFirefly.distanceTo(firefly) <= NON_LEADER_MAX_DISTANCE)
-					.toList();
-				List<Firefly> leaderFireflies = FireflyAi.getNearbyFirefliesInRank(firefly, true);
+				Firefly nonLeaderFireflyCloseBy = FireflyAi.getNearestFireflyInRank(firefly, false, NON_LEADER_MAX_DISTANCE);
 
-				if (nonLeaderFirefliesCloseBy.isEmpty() && !leaderFireflies.isEmpty()) {
+				if (nonLeaderFireflyCloseBy == null && FireflyAi.getNearestFireflyInRank(firefly, true) != null) {
 					brain.eraseMemory(WWMemoryModuleTypes.IS_SWARM_LEADER);
 				}
 			}
@@ -18,16 +18,13 @@
 
 package net.frozenblock.wilderwild.entity.ai.firefly;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 import net.frozenblock.wilderwild.entity.Firefly;
 import net.frozenblock.wilderwild.registry.WWMemoryModuleTypes;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.Sensor;
@@ -38,19 +35,14 @@ public class FireflySpecificSensor extends Sensor<Firefly> {
 	@Override
 	@NotNull
 	public Set<MemoryModuleType<?>> requires() {
-		return ImmutableSet.of(MemoryModuleType.NEAREST_LIVING_ENTITIES, WWMemoryModuleTypes.NEARBY_FIREFLIES);
+		return ImmutableSet.of(WWMemoryModuleTypes.NEARBY_FIREFLIES);
 	}
 
 	@Override
 	protected void doTick(@NotNull ServerLevel level, @NotNull Firefly firefly) {
 		Brain<?> brain = firefly.getBrain();
 		ArrayList<Firefly> fireflies = Lists.newArrayList();
-		List<LivingEntity> entities = brain.getMemory(MemoryModuleType.NEAREST_LIVING_ENTITIES).orElse(ImmutableList.of());
-		for (LivingEntity livingEntity : entities) {
-			if (livingEntity instanceof Firefly otherFirefly) {
-				fireflies.add(otherFirefly);
-			}
-		}
+		FireflySwarms.collectNearbyFireflies(level, firefly, fireflies);
 		brain.setMemory(WWMemoryModuleTypes.NEARBY_FIREFLIES, fireflies);
 	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.firefly;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.entity.Firefly;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps a per-level index of every Firefly, bucketed by section.
+ * <p>
+ * Fireflies report themselves each tick, and the index is rebuilt once at the start of the next tick.
+ * Sensors read nearby Fireflies from it instead of running their own entity searches.
+ */
+public final class FireflySwarms {
+	public static final double SEARCH_RANGE = 16D;
+	private static final Map<ResourceKey<Level>, LevelSwarms> SWARMS_PER_LEVEL = new HashMap<>();
+
+	private FireflySwarms() {
+		throw new UnsupportedOperationException("FireflySwarms contains only static declarations.");
+	}
+
+	public static void track(@NotNull ServerLevel level, @NotNull Firefly firefly) {
+		getLevelSwarms(level).pendingFireflies.add(firefly);
+	}
+
+	public static void collectNearbyFireflies(@NotNull ServerLevel level, @NotNull Firefly firefly, @NotNull List<Firefly> fireflies) {
+		LevelSwarms levelSwarms = getLevelSwarms(level);
+		AABB searchBox = firefly.getBoundingBox().inflate(SEARCH_RANGE);
+		int minX = SectionPos.posToSectionCoord(searchBox.minX);
+		int minY = SectionPos.posToSectionCoord(searchBox.minY);
+		int minZ = SectionPos.posToSectionCoord(searchBox.minZ);
+		int maxX = SectionPos.posToSectionCoord(searchBox.maxX);
+		int maxY = SectionPos.posToSectionCoord(searchBox.maxY);
+		int maxZ = SectionPos.posToSectionCoord(searchBox.maxZ);
+
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					List<Firefly> sectionFireflies = levelSwarms.fireflyIndex.get(SectionPos.asLong(x, y, z));
+					if (sectionFireflies == null) continue;
+					for (Firefly otherFirefly : sectionFireflies) {
+						if (otherFirefly != firefly && otherFirefly.isAlive() && searchBox.intersects(otherFirefly.getBoundingBox())) {
+							fireflies.add(otherFirefly);
+						}
+					}
+				}
+			}
+		}
+		fireflies.sort(Comparator.comparingDouble(firefly::distanceToSqr));
+	}
+
+	public static void clear() {
+		SWARMS_PER_LEVEL.clear();
+	}
+
+	@NotNull
+	private static LevelSwarms getLevelSwarms(@NotNull ServerLevel level) {
+		LevelSwarms levelSwarms = SWARMS_PER_LEVEL.computeIfAbsent(level.dimension(), dimension -> new LevelSwarms());
+		levelSwarms.update(level.getGameTime());
+		return levelSwarms;
+	}
+
+	private static class LevelSwarms {
+		private final List<Firefly> pendingFireflies = new ArrayList<>();
+		private final Long2ObjectOpenHashMap<List<Firefly>> fireflyIndex = new Long2ObjectOpenHashMap<>();
+		private long gameTime = Long.MIN_VALUE;
+
+		private void update(long gameTime) {
+			if (this.gameTime == gameTime) return;
+			this.gameTime = gameTime;
+			this.fireflyIndex.clear();
+
+			for (Firefly firefly : this.pendingFireflies) {
+				if (!firefly.isAlive()) continue;
+				this.fireflyIndex.computeIfAbsent(SectionPos.asLong(firefly.blockPosition()), sectionPos -> new ArrayList<>()).add(firefly);
+			}
+			this.pendingFireflies.clear();
+		}
+	}
+}
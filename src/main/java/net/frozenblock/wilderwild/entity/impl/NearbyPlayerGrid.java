@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A per-tick grid of the non-spectator players in each level.
+ * <p>
+ * Built once per tick the first time it is queried, letting many entities check for nearby players
+ * without each of them iterating over every player in the level.
+ */
+public final class NearbyPlayerGrid {
+	public static final int CELL_SIZE = 32;
+	private static final Map<ResourceKey<Level>, LevelGrid> GRID_PER_LEVEL = new HashMap<>();
+
+	private NearbyPlayerGrid() {
+		throw new UnsupportedOperationException("NearbyPlayerGrid contains only static declarations.");
+	}
+
+	/**
+	 * @param distance the maximum distance to search, which must not exceed {@link #CELL_SIZE}.
+	 */
+	public static boolean hasPlayerWithin(@NotNull ServerLevel level, @NotNull Entity entity, double distance) {
+		LevelGrid grid = GRID_PER_LEVEL.computeIfAbsent(level.dimension(), dimension -> new LevelGrid());
+		grid.update(level);
+		if (grid.cells.isEmpty()) return false;
+
+		double maxDistanceSqr = distance * distance;
+		int cellX = getCell(entity.getX());
+		int cellY = getCell(entity.getY());
+		int cellZ = getCell(entity.getZ());
+		for (int x = cellX - 1; x <= cellX + 1; x++) {
+			for (int y = cellY - 1; y <= cellY + 1; y++) {
+				for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+					List<ServerPlayer> players = grid.cells.get(SectionPos.asLong(x, y, z));
+					if (players == null) continue;
+					for (ServerPlayer player : players) {
+						if (player.distanceToSqr(entity) <= maxDistanceSqr) return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	public static void clear() {
+		GRID_PER_LEVEL.clear();
+	}
+
+	private static int getCell(double coordinate) {
+		return Math.floorDiv(Mth.floor(coordinate), CELL_SIZE);
+	}
+
+	private static class LevelGrid {
+		private final Long2ObjectOpenHashMap<List<ServerPlayer>> cells = new Long2ObjectOpenHashMap<>();
+		private long gameTime = Long.MIN_VALUE;
+
+		private void update(@NotNull ServerLevel level) {
+			long gameTime = level.getGameTime();
+			if (this.gameTime == gameTime) return;
+			this.gameTime = gameTime;
+			this.cells.clear();
+			for (ServerPlayer player : level.players()) {
+				if (player.isSpectator()) continue;
+				long cell = SectionPos.asLong(getCell(player.getX()), getCell(player.getY()), getCell(player.getZ()));
+				this.cells.computeIfAbsent(cell, cellPos -> new ArrayList<>()).add(player);
+			}
+		}
+	}
+}
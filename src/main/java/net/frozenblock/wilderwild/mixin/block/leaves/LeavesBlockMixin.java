@@ -19,12 +19,15 @@
 package net.frozenblock.wilderwild.mixin.block.leaves;
 
 import net.frozenblock.wilderwild.block.impl.FallingLeafUtil;
+import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -32,9 +35,31 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(LeavesBlock.class)
 public class LeavesBlockMixin {
 
+	@Unique
+	@Nullable
+	private FallingLeafUtil.FallingLeafData wilderWild$fallingLeafData;
+	@Unique
+	private float wilderWild$leafParticleChance;
+	@Unique
+	private int wilderWild$leafParticleRevision = -1;
+
 	@Inject(method = "animateTick", at = @At("HEAD"))
 	public void wilderWild$fallingLeafParticles(BlockState state, Level world, BlockPos pos, RandomSource random, CallbackInfo info) {
-		FallingLeafUtil.addFallingLeafParticles(state, world, pos, random);
+		if (this.wilderWild$leafParticleRevision != WWAmbienceAndMiscConfig.Client.LEAF_FREQUENCY_REVISION) {
+			this.wilderWild$bakeLeafParticles();
+		}
+		if (this.wilderWild$leafParticleChance > 0F && random.nextFloat() <= this.wilderWild$leafParticleChance) {
+			FallingLeafUtil.addFallingLeafParticles(this.wilderWild$fallingLeafData, world, pos, random);
+		}
+	}
+
+	@Unique
+	private void wilderWild$bakeLeafParticles() {
+		this.wilderWild$leafParticleRevision = WWAmbienceAndMiscConfig.Client.LEAF_FREQUENCY_REVISION;
+		this.wilderWild$fallingLeafData = FallingLeafUtil.getFallingLeafData(LeavesBlock.class.cast(this)).orElse(null);
+		this.wilderWild$leafParticleChance = this.wilderWild$fallingLeafData != null
+			? FallingLeafUtil.getEffectiveParticleChance(this.wilderWild$fallingLeafData)
+			: 0F;
 	}
 
 }
@@ -27,6 +27,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -34,6 +35,7 @@ import net.minecraft.world.level.block.BubbleColumnBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -103,6 +105,15 @@ public abstract class BubbleColumnBlockMixin extends Block {
 		throw new AssertionError("Mixin injection failed - Wilder Wild BubbleColumnBlockMixin.");
 	}
 
+	@Unique
+	@Override
+	protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+		if (!level.isClientSide && WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
+			level.scheduleTick(pos, BubbleColumnBlock.class.cast(this), MesogleaBlock.TICK_DELAY);
+		}
+		super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+	}
+
 	@Inject(method = "tick", at = @At("TAIL"))
 	public void wilderWild$tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random, CallbackInfo info) {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
@@ -121,7 +132,7 @@ public abstract class BubbleColumnBlockMixin extends Block {
 	public void wilderWild$updateShape(BlockState state, Direction direction, BlockState neighborState, LevelAccessor level, BlockPos pos, BlockPos neighborPos, CallbackInfoReturnable<BlockState> cir) {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
 			if (MesogleaBlock.hasBubbleColumn(neighborState)) {
-				level.scheduleTick(pos, BubbleColumnBlock.class.cast(this), 5);
+				level.scheduleTick(pos, BubbleColumnBlock.class.cast(this), MesogleaBlock.TICK_DELAY);
 			}
 		}
 	}
@@ -20,15 +20,14 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.impl.WilderDripSuspendedParticleInterface;
+import net.frozenblock.wilderwild.wind.ClientParticleWindLattice;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.DripParticle;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.TextureSheetParticle;
 import net.minecraft.core.particles.SimpleParticleType;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -40,6 +39,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(DripParticle.class)
 public abstract class DripParticleMixin extends TextureSheetParticle implements WilderDripSuspendedParticleInterface {
 
+	@Unique
+	private static final ClientParticleWindLattice.WindSample WILDERWILD$WIND_SAMPLE = new ClientParticleWindLattice.WindSample();
+
 	@Unique
 	private boolean wilderWild$usesWind = false;
 
@@ -77,11 +79,11 @@ public abstract class DripParticleMixin extends TextureSheetParticle implements
 	@Inject(method = "tick", at = @At("HEAD"))
 	public void wilderWild$tick(CallbackInfo info) {
 		if (this.wilderWild$usesWind()) {
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
-				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-			this.xd += wind.x * 0.001D;
-			this.yd += wind.y * 0.00005D;
-			this.zd += wind.z * 0.001D;
+			ClientParticleWindLattice.sample(this.level, this.x, this.y, this.z, WILDERWILD$WIND_SAMPLE);
+			double windIntensity = WWAmbienceAndMiscConfig.getParticleWindIntensity();
+			this.xd += WILDERWILD$WIND_SAMPLE.x() * windIntensity * 0.001D;
+			this.yd += WILDERWILD$WIND_SAMPLE.y() * windIntensity * 0.00005D;
+			this.zd += WILDERWILD$WIND_SAMPLE.z() * windIntensity * 0.001D;
 		}
 	}
 
@@ -20,17 +20,17 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.impl.WilderDripSuspendedParticleInterface;
+import net.frozenblock.wilderwild.wind.ClientParticleWindLattice;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.material.FluidState;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -39,6 +39,11 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(Particle.class)
 public abstract class ParticleMixin {
 
+	@Unique
+	private static final BlockPos.MutableBlockPos WILDERWILD$MUTABLE_POS = new BlockPos.MutableBlockPos();
+	@Unique
+	private static final ClientParticleWindLattice.WindSample WILDERWILD$WIND_SAMPLE = new ClientParticleWindLattice.WindSample();
+
 	@Shadow
 	@Final
 	protected ClientLevel level;
@@ -59,16 +64,16 @@ public abstract class ParticleMixin {
 	public void wilderWild$tick(CallbackInfo info) {
 		if (Particle.class.cast(this) instanceof WilderDripSuspendedParticleInterface dripSuspendedParticleInterface) {
 			if (dripSuspendedParticleInterface.wilderWild$usesWind()) {
-				BlockPos blockPos = BlockPos.containing(this.x, this.y, this.z);
+				BlockPos.MutableBlockPos blockPos = WILDERWILD$MUTABLE_POS.set(this.x, this.y, this.z);
 				FluidState fluidState = this.level.getBlockState(blockPos).getFluidState();
 				if (!fluidState.isEmpty() && (fluidState.getHeight(this.level, blockPos) + blockPos.getY()) >= this.y) {
 					return;
 				}
-				Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
-					.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-				this.xd += wind.x * 0.001D;
-				this.yd += wind.y * 0.00005D;
-				this.zd += wind.z * 0.001D;
+				ClientParticleWindLattice.sample(this.level, this.x, this.y, this.z, WILDERWILD$WIND_SAMPLE);
+				double windIntensity = WWAmbienceAndMiscConfig.getParticleWindIntensity();
+				this.xd += WILDERWILD$WIND_SAMPLE.x() * windIntensity * 0.001D;
+				this.yd += WILDERWILD$WIND_SAMPLE.y() * windIntensity * 0.00005D;
+				this.zd += WILDERWILD$WIND_SAMPLE.z() * windIntensity * 0.001D;
 			}
 		}
 	}
@@ -20,17 +20,14 @@ package net.frozenblock.wilderwild.mixin.entity.lightning;
 
 import com.llamalad7.mixinextras.sugar.Share;
 import com.llamalad7.mixinextras.sugar.ref.LocalRef;
-import net.frozenblock.wilderwild.block.ScorchedBlock;
+import net.frozenblock.wilderwild.block.impl.LightningScorching;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
-import net.frozenblock.wilderwild.worldgen.features.configured.WWMiscConfigured;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkGenerator;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -46,7 +43,7 @@ public class LightningBoltMixin {
 	private boolean visualOnly;
 
 	@Unique
-	private int wilderWild$age = 0;
+	private boolean wilderWild$strikeSent = false;
 
 	@Inject(method = "tick", at = @At(value = "HEAD"))
 	private void wilderWild$tick(
@@ -57,12 +54,10 @@ public class LightningBoltMixin {
 		if (LightningBolt.class.cast(this).level() instanceof ServerLevel serverLevel) {
 			BlockPos blockPos = this.getStrikePosition();
 			BlockState state = serverLevel.getBlockState(blockPos);
-			WWLightningStrikePacket.sendToAll(
-				LightningBolt.class.cast(this),
-				state,
-				this.wilderWild$age
-			);
-			this.wilderWild$age += 1;
+			if (!this.wilderWild$strikeSent) {
+				this.wilderWild$strikeSent = true;
+				WWLightningStrikePacket.sendToAll(LightningBolt.class.cast(this), state, serverLevel.getGameTime());
+			}
 			strikePosLocalRef.set(blockPos);
 			strikeStateLocalRef.set(state);
 		}
@@ -86,11 +81,7 @@ public class LightningBoltMixin {
 	@Unique
 	private void wilderWild$scorchSand(@NotNull LightningBolt bolt, BlockPos strikePose, BlockState strikeState) {
 		if (!this.visualOnly && bolt.level() instanceof ServerLevel serverLevel && WWEntityConfig.get().lightning.lightningScorchesSand && strikeState.is(BlockTags.SAND)) {
-			ChunkGenerator chunkGenerator = serverLevel.getChunkSource().getGenerator();
-			RandomSource randomSource = serverLevel.getRandom();
-			WWMiscConfigured.SCORCHED_SAND_DISK_LIGHTNING.getConfiguredFeature(serverLevel).place(serverLevel, chunkGenerator, randomSource, strikePose);
-			WWMiscConfigured.SCORCHED_RED_SAND_DISK_LIGHTNING.getConfiguredFeature(serverLevel).place(serverLevel, chunkGenerator, randomSource, strikePose);
-			ScorchedBlock.scorch(strikeState, serverLevel, strikePose);
+			LightningScorching.queueStrike(serverLevel, strikePose, strikeState);
 		}
 	}
 
@@ -25,7 +25,6 @@ import com.llamalad7.mixinextras.sugar.Local;
 import com.llamalad7.mixinextras.sugar.Share;
 import com.llamalad7.mixinextras.sugar.ref.LocalBooleanRef;
 import com.llamalad7.mixinextras.sugar.ref.LocalRef;
-import java.util.Iterator;
 import net.frozenblock.wilderwild.block.OsseousSculkBlock;
 import net.frozenblock.wilderwild.block.impl.SlabWallStairSculkBehavior;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
@@ -33,6 +32,7 @@ import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
@@ -45,6 +45,8 @@ import net.minecraft.world.level.block.SculkSpreader;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -80,18 +82,48 @@ public class SculkBlockMixin {
 	}
 
 	@Unique
-	private static boolean wilderWild$ancientCityOrPillarNearby(LevelAccessor level, @NotNull BlockPos pos) {
+	private static boolean wilderWild$ancientCityOrPillarNearby(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
+		int minX = pos.getX() - 2;
+		int minY = pos.getY() - 2;
+		int minZ = pos.getZ() - 2;
+		int maxX = pos.getX() + 2;
+		int maxY = pos.getY() + 2;
+		int maxZ = pos.getZ() + 2;
 		int foundCancellingBlocks = 0;
-		Iterator<BlockPos> poses = BlockPos.betweenClosed(pos.offset(-2, -2, -2), pos.offset(2, 2, 2)).iterator();
-		do {
-			if (!poses.hasNext()) return false;
-			BlockPos blockPos = poses.next();
-			BlockState blockState2 = level.getBlockState(blockPos);
-			if (blockState2.is(WWBlockTags.ANCIENT_CITY_BLOCKS)) {
-				++foundCancellingBlocks;
+
+		for (int sectionX = SectionPos.blockToSectionCoord(minX); sectionX <= SectionPos.blockToSectionCoord(maxX); sectionX++) {
+			for (int sectionZ = SectionPos.blockToSectionCoord(minZ); sectionZ <= SectionPos.blockToSectionCoord(maxZ); sectionZ++) {
+				ChunkAccess chunk = level.getChunk(sectionX, sectionZ);
+				int minSectionY = Math.max(SectionPos.blockToSectionCoord(minY), chunk.getMinSection());
+				int maxSectionY = Math.min(SectionPos.blockToSectionCoord(maxY), chunk.getMaxSection() - 1);
+				for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+					LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+					// The palette tells us whether a section can contain any Ancient City blocks without reading every position.
+					if (section.hasOnlyAir() || !section.maybeHas(state -> state.is(WWBlockTags.ANCIENT_CITY_BLOCKS))) continue;
+
+					int startX = Math.max(minX, SectionPos.sectionToBlockCoord(sectionX));
+					int startY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY));
+					int startZ = Math.max(minZ, SectionPos.sectionToBlockCoord(sectionZ));
+					int endX = Math.min(maxX, SectionPos.sectionToBlockCoord(sectionX, 15));
+					int endY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+					int endZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(sectionZ, 15));
+					for (int x = startX; x <= endX; x++) {
+						for (int y = startY; y <= endY; y++) {
+							for (int z = startZ; z <= endZ; z++) {
+								BlockState blockState = section.getBlockState(
+									SectionPos.sectionRelative(x), SectionPos.sectionRelative(y), SectionPos.sectionRelative(z)
+								);
+								if (blockState.is(WWBlockTags.ANCIENT_CITY_BLOCKS)) {
+									++foundCancellingBlocks;
+									if (foundCancellingBlocks >= WILDERWILD$OSSEOUS_SCULK_WORLDGEN_CANCELLING_BLOCK_COUNT) return true;
+								}
+							}
+						}
+					}
+				}
 			}
-			if (foundCancellingBlocks >= WILDERWILD$OSSEOUS_SCULK_WORLDGEN_CANCELLING_BLOCK_COUNT) return true;
-		} while (true);
+		}
+		return false;
 	}
 
 	@Unique
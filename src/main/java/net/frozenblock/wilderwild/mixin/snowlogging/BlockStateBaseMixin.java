@@ -48,10 +48,11 @@ import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -60,6 +61,22 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(BlockBehaviour.BlockStateBase.class)
 public abstract class BlockStateBaseMixin {
 
+	@Unique
+	@Nullable
+	private SnowloggingUtils.MergedShape wilderWild$mergedCollisionShape;
+	@Unique
+	@Nullable
+	private SnowloggingUtils.MergedShape wilderWild$mergedVisualShape;
+	@Unique
+	@Nullable
+	private SnowloggingUtils.MergedShape wilderWild$mergedInteractionShape;
+	@Unique
+	@Nullable
+	private SnowloggingUtils.MergedShape wilderWild$mergedBlockSupportShape;
+	@Unique
+	@Nullable
+	private SnowloggingUtils.MergedShape wilderWild$mergedOcclusionShape;
+
 	@Shadow
 	protected abstract BlockState asState();
 
@@ -70,7 +87,12 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getCollisionShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context));
+			VoxelShape snowShape = SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context);
+			SnowloggingUtils.MergedShape mergedShape = this.wilderWild$mergedCollisionShape;
+			if (mergedShape == null || !mergedShape.matches(original, snowShape)) {
+				this.wilderWild$mergedCollisionShape = mergedShape = SnowloggingUtils.MergedShape.merge(original, snowShape);
+			}
+			return mergedShape.shape();
 		}
 		return original;
 	}
@@ -91,7 +113,12 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getVisualShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context));
+			VoxelShape snowShape = SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context);
+			SnowloggingUtils.MergedShape mergedShape = this.wilderWild$mergedVisualShape;
+			if (mergedShape == null || !mergedShape.matches(original, snowShape)) {
+				this.wilderWild$mergedVisualShape = mergedShape = SnowloggingUtils.MergedShape.merge(original, snowShape);
+			}
+			return mergedShape.shape();
 		}
 		return original;
 	}
@@ -100,7 +127,12 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getInteractionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos));
+			VoxelShape snowShape = SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos);
+			SnowloggingUtils.MergedShape mergedShape = this.wilderWild$mergedInteractionShape;
+			if (mergedShape == null || !mergedShape.matches(original, snowShape)) {
+				this.wilderWild$mergedInteractionShape = mergedShape = SnowloggingUtils.MergedShape.merge(original, snowShape);
+			}
+			return mergedShape.shape();
 		}
 		return original;
 	}
@@ -109,7 +141,12 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getBlockSupportShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos));
+			VoxelShape snowShape = SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos);
+			SnowloggingUtils.MergedShape mergedShape = this.wilderWild$mergedBlockSupportShape;
+			if (mergedShape == null || !mergedShape.matches(original, snowShape)) {
+				this.wilderWild$mergedBlockSupportShape = mergedShape = SnowloggingUtils.MergedShape.merge(original, snowShape);
+			}
+			return mergedShape.shape();
 		}
 		return original;
 	}
@@ -118,7 +155,12 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getOcclusionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos));
+			VoxelShape snowShape = SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos);
+			SnowloggingUtils.MergedShape mergedShape = this.wilderWild$mergedOcclusionShape;
+			if (mergedShape == null || !mergedShape.matches(original, snowShape)) {
+				this.wilderWild$mergedOcclusionShape = mergedShape = SnowloggingUtils.MergedShape.merge(original, snowShape);
+			}
+			return mergedShape.shape();
 		}
 		return original;
 	}
@@ -27,18 +27,14 @@ import net.frozenblock.wilderwild.entity.impl.WilderSonicBoom;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.behavior.warden.SonicBoom;
 import net.minecraft.world.entity.monster.warden.Warden;
-import net.minecraft.world.level.ClipBlockStateContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.BlockHitResult;
-import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -58,6 +54,14 @@ public class SonicBoomMixin implements WilderSonicBoom {
 	private static SonicBoom wilderWild$currentBoom;
 	@Unique
 	private boolean wilderWild$particlesEnded = false;
+	@Unique
+	@Nullable
+	private static Vec3 wilderWild$echoGlassSearchStart;
+	@Unique
+	@Nullable
+	private static BlockPos wilderWild$echoGlassPos;
+	@Unique
+	private static double wilderWild$echoGlassDistance;
 
 	@ModifyVariable(
 		method = "method_43265",
@@ -80,10 +84,10 @@ public class SonicBoomMixin implements WilderSonicBoom {
 		)
 	)
 	private static void wilderWild$stopParticles(Warden warden, ServerLevel serverLevel, LivingEntity livingEntity, CallbackInfo info,
-		@Local(ordinal = 0) Vec3 vec3, @Local(ordinal = 3) Vec3 vec34
+		@Local(ordinal = 0) Vec3 vec3, @Local(ordinal = 1) Vec3 vec32, @Local(ordinal = 2) Vec3 vec33, @Local(ordinal = 3) Vec3 vec34
 	) {
-		BlockPos hitPos = wilderWild$isOccluded(serverLevel, vec3, vec34);
-		if (hitPos != null) {
+		wilderWild$findEchoGlass(serverLevel, vec3, vec32, vec33);
+		if (wilderWild$echoGlassPos != null && vec34.distanceTo(vec3) >= wilderWild$echoGlassDistance) {
 			((WilderSonicBoom) wilderWild$currentBoom).wilderWild$endParticles();
 		}
 	}
@@ -100,16 +104,13 @@ public class SonicBoomMixin implements WilderSonicBoom {
 		Warden warden, ServerLevel level, LivingEntity livingEntity, CallbackInfo info,
 		@Local(ordinal = 0) Vec3 vec3, @Local(ordinal = 1) Vec3 vec32, @Local(ordinal = 2) Vec3 vec33
 	) {
-		for (int i = 1; i < Mth.floor(vec32.length()) + 7; ++i) {
-			Vec3 vec34 = vec3.add(vec33.scale(i));
-			BlockPos hitPos = wilderWild$isOccluded(level, vec3, vec34);
-			if (hitPos != null) {
-				i = Mth.floor(vec32.length()) + 10;
-				info.cancel();
-				BlockState hitState = level.getBlockState(hitPos);
-				if (hitState.getBlock() instanceof EchoGlassBlock) {
-					EchoGlassBlock.damage(level, hitPos, hitState, false);
-				}
+		wilderWild$findEchoGlass(level, vec3, vec32, vec33);
+		BlockPos hitPos = wilderWild$echoGlassPos;
+		if (hitPos != null) {
+			info.cancel();
+			BlockState hitState = level.getBlockState(hitPos);
+			if (hitState.getBlock() instanceof EchoGlassBlock) {
+				EchoGlassBlock.damage(level, hitPos, hitState, false);
 			}
 		}
 	}
@@ -126,27 +127,53 @@ public class SonicBoomMixin implements WilderSonicBoom {
 		return ((WilderWarden) warden).wilderWild$isStella() ? WWSounds.ENTITY_WARDEN_BRAP : original;
 	}
 
+	/**
+	 * Walks the voxels along the Sonic Boom once, finding the first Echo Glass in its path.
+	 * <p>
+	 * The result is kept until a new Sonic Boom starts, so every particle step and the final hit share one traversal.
+	 */
 	@Unique
-	@Nullable
-	private static BlockPos wilderWild$isOccluded(@NotNull Level level, @NotNull Vec3 start, @NotNull Vec3 end) {
-		Vec3 vec3d = new Vec3((double) Mth.floor(start.x) + 0.5D, (double) Mth.floor(start.y) + 0.5D, (double) Mth.floor(start.z) + 0.5D);
-		Vec3 vec3d2 = new Vec3((double) Mth.floor(end.x) + 0.5D, (double) Mth.floor(end.y) + 0.5D, (double) Mth.floor(end.z) + 0.5D);
-		BlockPos hitPos = null;
-		boolean blocked = true;
-		for (Direction direction : Direction.values()) {
-			Vec3 vec3d3 = vec3d.relative(direction, 9.999999747378752E-6D);
-			BlockHitResult hit = level.isBlockInLine(new ClipBlockStateContext(vec3d3, vec3d2, (state) -> state.is(WWBlocks.ECHO_GLASS)));
-			if (hit.getType() != HitResult.Type.BLOCK) {
-				blocked = false;
+	private static void wilderWild$findEchoGlass(@NotNull Level level, @NotNull Vec3 start, @NotNull Vec3 offset, @NotNull Vec3 direction) {
+		if (wilderWild$echoGlassSearchStart == start) return;
+		wilderWild$echoGlassSearchStart = start;
+		wilderWild$echoGlassPos = null;
+
+		double maxDistance = Mth.floor(offset.length()) + 6;
+		int x = Mth.floor(start.x);
+		int y = Mth.floor(start.y);
+		int z = Mth.floor(start.z);
+		int stepX = (int) Math.signum(direction.x);
+		int stepY = (int) Math.signum(direction.y);
+		int stepZ = (int) Math.signum(direction.z);
+		double deltaX = stepX == 0 ? Double.MAX_VALUE : Math.abs(1D / direction.x);
+		double deltaY = stepY == 0 ? Double.MAX_VALUE : Math.abs(1D / direction.y);
+		double deltaZ = stepZ == 0 ? Double.MAX_VALUE : Math.abs(1D / direction.z);
+		double nextX = stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1D - start.x : start.x - x) * deltaX;
+		double nextY = stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1D - start.y : start.y - y) * deltaY;
+		double nextZ = stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1D - start.z : start.z - z) * deltaZ;
+		double distance = 0D;
+		BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+		while (distance <= maxDistance) {
+			if (level.getBlockState(mutablePos.set(x, y, z)).is(WWBlocks.ECHO_GLASS)) {
+				wilderWild$echoGlassPos = mutablePos.immutable();
+				wilderWild$echoGlassDistance = distance;
+				return;
+			}
+			if (nextX < nextY && nextX < nextZ) {
+				x += stepX;
+				distance = nextX;
+				nextX += deltaX;
+			} else if (nextY < nextZ) {
+				y += stepY;
+				distance = nextY;
+				nextY += deltaY;
 			} else {
-				hitPos = hit.getBlockPos();
+				z += stepZ;
+				distance = nextZ;
+				nextZ += deltaZ;
 			}
 		}
-		if (blocked) {
-			return hitPos;
-		} else {
-			return null;
-		}
 	}
 
 	@ModifyArg(
@@ -160,6 +187,7 @@ public class SonicBoomMixin implements WilderSonicBoom {
 	private Consumer<? super LivingEntity> wilderWild$setCurrent(Consumer<? super LivingEntity> original) {
 		return target -> {
 			wilderWild$currentBoom = SonicBoom.class.cast(this);
+			wilderWild$echoGlassSearchStart = null;
 			original.accept(target);
 		};
 	}
@@ -18,11 +18,15 @@
 
 package net.frozenblock.wilderwild.networking;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
+import net.frozenblock.wilderwild.block.impl.ChestUtil;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.Jellyfish;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
@@ -52,6 +56,8 @@ import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
 public final class WWClientNetworking {
+	private static final int MAX_LIGHTNING_STRIKE_TICKS = 40;
+	private static final List<ActiveLightningStrike> ACTIVE_LIGHTNING_STRIKES = new ArrayList<>();
 
 	public static void registerPacketReceivers() {
 		receiveWindExtensionSyncPacket();
@@ -89,30 +95,71 @@ public final class WWClientNetworking {
 
 	public static void receiveLightningStrikePacket() {
 		ClientPlayNetworking.registerGlobalReceiver(WWLightningStrikePacket.PACKET_TYPE, (packet, ctx) -> {
-			BlockState blockState = Block.stateById(packet.blockStateId());
-			Minecraft minecraft = Minecraft.getInstance();
 			ClientLevel clientLevel = ctx.client().level;
-			if (!blockState.isAir()) {
-				RandomSource random = clientLevel.getRandom();
-				if (WWEntityConfig.get().lightning.lightningBlockParticles) {
-					lightningBlockParticles(packet.tickCount(), packet.x(), packet.y(), packet.z(), blockState, random, minecraft.particleEngine);
-				}
-				if (WWEntityConfig.get().lightning.lightningSmokeParticles) {
-					lightningSmokeParticles(packet.tickCount(), packet.x(), packet.y(), packet.z(), blockState, random, minecraft.particleEngine);
+			for (WWLightningStrikePacket.Strike strike : packet.strikes()) {
+				BlockState blockState = Block.stateById(strike.blockStateId());
+				if (!blockState.isAir()) {
+					ActiveLightningStrike activeStrike = new ActiveLightningStrike(clientLevel, strike, blockState);
+					spawnLightningParticles(clientLevel, activeStrike);
+					ACTIVE_LIGHTNING_STRIKES.add(activeStrike);
 				}
 			}
 		});
 	}
 
+	/**
+	 * Keeps spawning particles for every Lightning Bolt that has struck, using the client's own clock.
+	 * <p>
+	 * A strike stops once its Lightning Bolt has been removed from the level.
+	 */
+	public static void tickLightningStrikes(@NotNull ClientLevel clientLevel) {
+		if (ACTIVE_LIGHTNING_STRIKES.isEmpty()) return;
+		Iterator<ActiveLightningStrike> iterator = ACTIVE_LIGHTNING_STRIKES.iterator();
+		while (iterator.hasNext()) {
+			ActiveLightningStrike activeStrike = iterator.next();
+			activeStrike.age = (int) Math.max(activeStrike.age + 1L, clientLevel.getGameTime() - activeStrike.strike.startTick());
+			if (
+				activeStrike.level != clientLevel
+					|| activeStrike.age > MAX_LIGHTNING_STRIKE_TICKS
+					|| clientLevel.getEntity(activeStrike.strike.entityId()) == null
+			) {
+				iterator.remove();
+			} else {
+				spawnLightningParticles(clientLevel, activeStrike);
+			}
+		}
+	}
+
+	public static void clearLightningStrikes() {
+		ACTIVE_LIGHTNING_STRIKES.clear();
+	}
+
+	private static void spawnLightningParticles(@NotNull ClientLevel clientLevel, @NotNull ActiveLightningStrike activeStrike) {
+		ParticleEngine particleEngine = Minecraft.getInstance().particleEngine;
+		RandomSource random = clientLevel.getRandom();
+		WWLightningStrikePacket.Strike strike = activeStrike.strike;
+		if (WWEntityConfig.get().lightning.lightningBlockParticles) {
+			lightningBlockParticles(activeStrike.age, strike.x(), strike.y(), strike.z(), activeStrike.blockState, random, particleEngine);
+		}
+		if (WWEntityConfig.get().lightning.lightningSmokeParticles) {
+			lightningSmokeParticles(activeStrike.age, strike.x(), strike.y(), strike.z(), activeStrike.blockState, random, particleEngine);
+		}
+	}
+
 	public static void receiveStoneChestLidPacket() {
 		ClientPlayNetworking.registerGlobalReceiver(WWStoneChestLidPacket.PACKET_TYPE, (packet, ctx) -> {
 			ClientLevel clientLevel = ctx.client().level;
-			if (clientLevel.getBlockEntity(packet.pos()) instanceof StoneChestBlockEntity stoneChestBlockEntity) {
-				stoneChestBlockEntity.openProgress = packet.openProgress();
-				stoneChestBlockEntity.highestLidPoint = packet.highestLidPoint();
-				stoneChestBlockEntity.cooldownTicks = packet.cooldownTicks();
-				stoneChestBlockEntity.stillLidTicks = packet.stillLidTicks();
-				stoneChestBlockEntity.closing = packet.closing();
+			for (WWStoneChestLidPacket.Lid lid : packet.lids()) {
+				if (clientLevel.getBlockEntity(lid.pos()) instanceof StoneChestBlockEntity stoneChestBlockEntity) {
+					stoneChestBlockEntity.openProgress = lid.openProgress();
+					stoneChestBlockEntity.highestLidPoint = lid.highestLidPoint();
+					stoneChestBlockEntity.cooldownTicks = lid.cooldownTicks();
+					stoneChestBlockEntity.stillLidTicks = lid.stillLidTicks();
+					stoneChestBlockEntity.closing = lid.closing();
+					stoneChestBlockEntity.syncLidValuesAndUpdate(
+						ChestUtil.getCoupledStoneChestBlockEntity(clientLevel, lid.pos(), stoneChestBlockEntity.getBlockState()).orElse(null)
+					);
+				}
 			}
 		});
 	}
@@ -218,4 +265,17 @@ public final class WWClientNetworking {
 			angle += rotAngle;
 		}
 	}
+
+	private static class ActiveLightningStrike {
+		private final ClientLevel level;
+		private final WWLightningStrikePacket.Strike strike;
+		private final BlockState blockState;
+		private int age;
+
+		private ActiveLightningStrike(ClientLevel level, WWLightningStrikePacket.Strike strike, BlockState blockState) {
+			this.level = level;
+			this.strike = strike;
+			this.blockState = blockState;
+		}
+	}
 }
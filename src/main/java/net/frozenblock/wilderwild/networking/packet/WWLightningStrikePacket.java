@@ -18,9 +18,14 @@
 
 package net.frozenblock.wilderwild.networking.packet;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
@@ -30,42 +35,78 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 
-public record WWLightningStrikePacket(int blockStateId, double x, double y, double z, int tickCount) implements CustomPacketPayload {
+/**
+ * Tells clients that one or more Lightning Bolts have struck.
+ * <p>
+ * Each strike is only sent once, and clients keep spawning its particles on their own clock until the Lightning Bolt is removed.
+ */
+public record WWLightningStrikePacket(List<Strike> strikes) implements CustomPacketPayload {
 	public static final Type<WWLightningStrikePacket> PACKET_TYPE = new Type<>(
 		WWConstants.id("lightning_strike")
 	);
 
 	public static final StreamCodec<FriendlyByteBuf, WWLightningStrikePacket> CODEC = StreamCodec.ofMember(WWLightningStrikePacket::write, WWLightningStrikePacket::new);
+	private static final Map<ServerPlayer, List<Strike>> PENDING_STRIKES = new Reference2ObjectOpenHashMap<>();
 
 	public WWLightningStrikePacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readInt(), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readVarInt());
+		this(buf.readList(Strike::new));
 	}
 
-	public static void sendToAll(@NotNull Entity entity, @NotNull BlockState blockState, int tickCount) {
-		for (ServerPlayer player : PlayerLookup.tracking(entity)) {
-			ServerPlayNetworking.send(
-				player,
-				new WWLightningStrikePacket(
-					Block.getId(blockState),
-					entity.getX(),
-					entity.getY(),
-					entity.getZ(),
-					tickCount
-				)
-			);
+	/**
+	 * Sends a strike to every tracking player.
+	 * <p>
+	 * If {@link WWEntityConfig.LightningConfig#coalesceLightningStrikes} is enabled,
+	 * the strike is held until {@link #sendPendingStrikes()} so all strikes from the same tick share one packet per player.
+	 */
+	public static void sendToAll(@NotNull Entity entity, @NotNull BlockState blockState, long startTick) {
+		Strike strike = new Strike(entity.getId(), Block.getId(blockState), entity.getX(), entity.getY(), entity.getZ(), startTick);
+		if (WWEntityConfig.get().lightning.coalesceLightningStrikes) {
+			for (ServerPlayer player : PlayerLookup.tracking(entity)) {
+				PENDING_STRIKES.computeIfAbsent(player, serverPlayer -> new ArrayList<>()).add(strike);
+			}
+		} else {
+			WWLightningStrikePacket packet = new WWLightningStrikePacket(List.of(strike));
+			for (ServerPlayer player : PlayerLookup.tracking(entity)) {
+				ServerPlayNetworking.send(player, packet);
+			}
 		}
 	}
 
+	public static void sendPendingStrikes() {
+		if (PENDING_STRIKES.isEmpty()) return;
+		PENDING_STRIKES.forEach((player, strikes) -> {
+			if (!player.hasDisconnected()) {
+				ServerPlayNetworking.send(player, new WWLightningStrikePacket(strikes));
+			}
+		});
+		PENDING_STRIKES.clear();
+	}
+
+	public static void clearPendingStrikes() {
+		PENDING_STRIKES.clear();
+	}
+
 	public void write(@NotNull FriendlyByteBuf buf) {
-		buf.writeInt(this.blockStateId());
-		buf.writeDouble(this.x());
-		buf.writeDouble(this.y());
-		buf.writeDouble(this.z());
-		buf.writeVarInt(this.tickCount());
+		buf.writeCollection(this.strikes, (byteBuf, strike) -> strike.write(byteBuf));
 	}
 
 	@NotNull
 	public Type<?> type() {
 		return PACKET_TYPE;
 	}
+
+	public record Strike(int entityId, int blockStateId, double x, double y, double z, long startTick) {
+		public Strike(@NotNull FriendlyByteBuf buf) {
+			this(buf.readVarInt(), buf.readVarInt(), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readVarLong());
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeVarInt(this.entityId);
+			buf.writeVarInt(this.blockStateId);
+			buf.writeDouble(this.x);
+			buf.writeDouble(this.y);
+			buf.writeDouble(this.z);
+			buf.writeVarLong(this.startTick);
+		}
+	}
 }
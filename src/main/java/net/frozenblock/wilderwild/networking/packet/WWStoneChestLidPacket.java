@@ -18,6 +18,10 @@
 
 package net.frozenblock.wilderwild.networking.packet;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.wilderwild.WWConstants;
@@ -29,44 +33,100 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
 
-public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float highestLidPoint, int cooldownTicks, int stillLidTicks, boolean closing) implements CustomPacketPayload {
+/**
+ * Syncs the lids of Stone Chests whose lid state changed during a tick.
+ * <p>
+ * Lid changes are held until {@link #sendPendingLids()}, so chests that change together, such as several slamming at once,
+ * reach each player in a single packet.
+ */
+public record WWStoneChestLidPacket(List<Lid> lids) implements CustomPacketPayload {
 	public static final Type<WWStoneChestLidPacket> PACKET_TYPE = new Type<>(
 		WWConstants.id("stone_chest_lid")
 	);
 
 	public static final StreamCodec<FriendlyByteBuf, WWStoneChestLidPacket> CODEC = StreamCodec.ofMember(WWStoneChestLidPacket::write, WWStoneChestLidPacket::new);
+	private static final int PACKET_LOG_INTERVAL = 6000;
+	private static final Map<ServerPlayer, List<Lid>> PENDING_LIDS = new Reference2ObjectOpenHashMap<>();
+	private static long sentPackets;
+	private static long sentLids;
 
 	public WWStoneChestLidPacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readInt(), buf.readInt(), buf.readBoolean());
+		this(buf.readList(Lid::new));
 	}
 
+	/**
+	 * Queues the lid state of a Stone Chest for every tracking player.
+	 * <p>
+	 * Only one half of a double Stone Chest needs to be sent, as clients apply the state to both halves.
+	 */
 	public static void sendToAll(@NotNull StoneChestBlockEntity blockEntity) {
+		Lid lid = new Lid(
+			blockEntity.getBlockPos(),
+			blockEntity.openProgress,
+			blockEntity.highestLidPoint,
+			blockEntity.cooldownTicks,
+			blockEntity.stillLidTicks,
+			blockEntity.closing
+		);
 		for (ServerPlayer player : PlayerLookup.tracking(blockEntity)) {
-			ServerPlayNetworking.send(
-				player,
-				new WWStoneChestLidPacket(
-					blockEntity.getBlockPos(),
-					blockEntity.openProgress,
-					blockEntity.highestLidPoint,
-					blockEntity.cooldownTicks,
-					blockEntity.stillLidTicks,
-					blockEntity.closing
-				)
-			);
+			PENDING_LIDS.computeIfAbsent(player, serverPlayer -> new ArrayList<>()).add(lid);
+		}
+	}
+
+	public static void sendPendingLids() {
+		if (PENDING_LIDS.isEmpty()) return;
+		PENDING_LIDS.forEach((player, lids) -> {
+			if (!player.hasDisconnected()) {
+				ServerPlayNetworking.send(player, new WWStoneChestLidPacket(lids));
+				sentPackets += 1;
+				sentLids += lids.size();
+			}
+		});
+		PENDING_LIDS.clear();
+	}
+
+	public static void clearPendingLids() {
+		PENDING_LIDS.clear();
+	}
+
+	public static long getSentPackets() {
+		return sentPackets;
+	}
+
+	public static long getSentLids() {
+		return sentLids;
+	}
+
+	/**
+	 * Logs how many lid packets and lid updates have been sent, every {@link #PACKET_LOG_INTERVAL} ticks while unstable logging is enabled.
+	 */
+	public static void logSentPackets(int tickCount) {
+		if (tickCount % PACKET_LOG_INTERVAL == 0) {
+			WWConstants.log("Stone Chest lids: " + sentLids + " lid updates sent in " + sentPackets + " packets.", WWConstants.UNSTABLE_LOGGING);
 		}
 	}
 
 	public void write(@NotNull FriendlyByteBuf buf) {
-		buf.writeBlockPos(this.pos);
-		buf.writeFloat(this.openProgress);
-		buf.writeFloat(this.highestLidPoint);
-		buf.writeInt(this.cooldownTicks);
-		buf.writeInt(this.stillLidTicks);
-		buf.writeBoolean(this.closing);
+		buf.writeCollection(this.lids, (byteBuf, lid) -> lid.write(byteBuf));
 	}
 
 	@NotNull
 	public Type<?> type() {
 		return PACKET_TYPE;
 	}
+
+	public record Lid(BlockPos pos, float openProgress, float highestLidPoint, int cooldownTicks, int stillLidTicks, boolean closing) {
+		public Lid(@NotNull FriendlyByteBuf buf) {
+			this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readInt(), buf.readInt(), buf.readBoolean());
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeBlockPos(this.pos);
+			buf.writeFloat(this.openProgress);
+			buf.writeFloat(this.highestLidPoint);
+			buf.writeInt(this.cooldownTicks);
+			buf.writeInt(this.stillLidTicks);
+			buf.writeBoolean(this.closing);
+		}
+	}
 }
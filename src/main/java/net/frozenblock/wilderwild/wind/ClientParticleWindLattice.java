@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import java.util.Arrays;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.client.impl.ClientWindManager;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A lattice of wind samples centered on the camera, shared by every wind-affected particle.
+ * <p>
+ * The lattice is moved and invalidated once per client tick, and each lattice point is only sampled from the
+ * {@link ClientWindManager} the first time a particle needs it during that tick.
+ * Particles then read the wind through trilinear interpolation into a reusable {@link WindSample} without allocating.
+ */
+@Environment(EnvType.CLIENT)
+public final class ClientParticleWindLattice {
+	public static final double WIND_SCALE = 1.5D;
+	public static final double WIND_CLAMP = 7D;
+	public static final double WIND_DISTURBANCE_SCALE = 5D;
+	private static final int SAMPLE_SPACING = 4;
+	private static final double INVERSE_SAMPLE_SPACING = 1D / SAMPLE_SPACING;
+	private static final int RADIUS_IN_SAMPLES = 16;
+	private static final int SIZE = RADIUS_IN_SAMPLES * 2 + 1;
+	private static final float[] WIND_X = new float[SIZE * SIZE * SIZE];
+	private static final float[] WIND_Y = new float[SIZE * SIZE * SIZE];
+	private static final float[] WIND_Z = new float[SIZE * SIZE * SIZE];
+	private static final int[] SAMPLE_STAMPS = new int[SIZE * SIZE * SIZE];
+
+	@Nullable
+	private static ClientLevel level;
+	private static int stamp = 1;
+	private static int originX;
+	private static int originY;
+	private static int originZ;
+
+	private ClientParticleWindLattice() {
+		throw new UnsupportedOperationException("ClientParticleWindLattice contains only static declarations.");
+	}
+
+	public static void refresh(@Nullable ClientLevel clientLevel, int cameraX, int cameraY, int cameraZ) {
+		level = clientLevel;
+		originX = Math.floorDiv(cameraX, SAMPLE_SPACING) - RADIUS_IN_SAMPLES;
+		originY = Math.floorDiv(cameraY, SAMPLE_SPACING) - RADIUS_IN_SAMPLES;
+		originZ = Math.floorDiv(cameraZ, SAMPLE_SPACING) - RADIUS_IN_SAMPLES;
+		if (++stamp == 0) {
+			Arrays.fill(SAMPLE_STAMPS, 0);
+			stamp = 1;
+		}
+	}
+
+	public static void clear() {
+		level = null;
+	}
+
+	/**
+	 * Samples the wind at the given position, storing the result in {@code windSample}.
+	 */
+	public static void sample(@NotNull ClientLevel clientLevel, double x, double y, double z, @NotNull WindSample windSample) {
+		double sampleX = x * INVERSE_SAMPLE_SPACING;
+		double sampleY = y * INVERSE_SAMPLE_SPACING;
+		double sampleZ = z * INVERSE_SAMPLE_SPACING;
+		int latticeX = Mth.floor(sampleX) - originX;
+		int latticeY = Mth.floor(sampleY) - originY;
+		int latticeZ = Mth.floor(sampleZ) - originZ;
+
+		if (clientLevel != level || latticeX < 0 || latticeY < 0 || latticeZ < 0 || latticeX >= SIZE - 1 || latticeY >= SIZE - 1 || latticeZ >= SIZE - 1) {
+			Vec3 wind = ClientWindManager.getWindMovement(clientLevel, new Vec3(x, y, z), WIND_SCALE, WIND_CLAMP, WIND_DISTURBANCE_SCALE);
+			windSample.set(wind.x, wind.y, wind.z);
+			return;
+		}
+
+		double deltaX = sampleX - Mth.floor(sampleX);
+		double deltaY = sampleY - Mth.floor(sampleY);
+		double deltaZ = sampleZ - Mth.floor(sampleZ);
+		int x0y0z0 = getSampleIndex(clientLevel, latticeX, latticeY, latticeZ);
+		int x1y0z0 = getSampleIndex(clientLevel, latticeX + 1, latticeY, latticeZ);
+		int x0y1z0 = getSampleIndex(clientLevel, latticeX, latticeY + 1, latticeZ);
+		int x1y1z0 = getSampleIndex(clientLevel, latticeX + 1, latticeY + 1, latticeZ);
+		int x0y0z1 = getSampleIndex(clientLevel, latticeX, latticeY, latticeZ + 1);
+		int x1y0z1 = getSampleIndex(clientLevel, latticeX + 1, latticeY, latticeZ + 1);
+		int x0y1z1 = getSampleIndex(clientLevel, latticeX, latticeY + 1, latticeZ + 1);
+		int x1y1z1 = getSampleIndex(clientLevel, latticeX + 1, latticeY + 1, latticeZ + 1);
+
+		double windX = Mth.lerp3(
+			deltaX, deltaY, deltaZ,
+			WIND_X[x0y0z0], WIND_X[x1y0z0], WIND_X[x0y1z0], WIND_X[x1y1z0], WIND_X[x0y0z1], WIND_X[x1y0z1], WIND_X[x0y1z1], WIND_X[x1y1z1]
+		);
+		double windY = Mth.lerp3(
+			deltaX, deltaY, deltaZ,
+			WIND_Y[x0y0z0], WIND_Y[x1y0z0], WIND_Y[x0y1z0], WIND_Y[x1y1z0], WIND_Y[x0y0z1], WIND_Y[x1y0z1], WIND_Y[x0y1z1], WIND_Y[x1y1z1]
+		);
+		double windZ = Mth.lerp3(
+			deltaX, deltaY, deltaZ,
+			WIND_Z[x0y0z0], WIND_Z[x1y0z0], WIND_Z[x0y1z0], WIND_Z[x1y1z0], WIND_Z[x0y0z1], WIND_Z[x1y0z1], WIND_Z[x0y1z1], WIND_Z[x1y1z1]
+		);
+		windSample.set(windX, windY, windZ);
+	}
+
+	private static int getSampleIndex(@NotNull ClientLevel clientLevel, int latticeX, int latticeY, int latticeZ) {
+		int index = (latticeY * SIZE + latticeZ) * SIZE + latticeX;
+		if (SAMPLE_STAMPS[index] != stamp) {
+			Vec3 wind = ClientWindManager.getWindMovement(
+				clientLevel,
+				new Vec3((originX + latticeX) * SAMPLE_SPACING, (originY + latticeY) * SAMPLE_SPACING, (originZ + latticeZ) * SAMPLE_SPACING),
+				WIND_SCALE,
+				WIND_CLAMP,
+				WIND_DISTURBANCE_SCALE
+			);
+			WIND_X[index] = (float) wind.x;
+			WIND_Y[index] = (float) wind.y;
+			WIND_Z[index] = (float) wind.z;
+			SAMPLE_STAMPS[index] = stamp;
+		}
+		return index;
+	}
+
+	@Environment(EnvType.CLIENT)
+	public static final class WindSample {
+		private double x;
+		private double y;
+		private double z;
+
+		private void set(double x, double y, double z) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+
+		public double x() {
+			return this.x;
+		}
+
+		public double y() {
+			return this.y;
+		}
+
+		public double z() {
+			return this.z;
+		}
+	}
+}
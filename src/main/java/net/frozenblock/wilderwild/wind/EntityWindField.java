@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import net.frozenblock.lib.wind.api.WindManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A per-tick lattice of wind samples shared between entities.
+ * <p>
+ * Lattice points are only sampled from the {@link WindManager} the first time an entity needs them in a tick,
+ * so only areas containing wind-affected entities are ever evaluated.
+ * Entities in crowded lattice cells interpolate between the eight surrounding lattice points,
+ * meaning large groups of entities cost a handful of full wind evaluations instead of one each.
+ * <p>
+ * Cells that held fewer than {@link #MIN_ENTITIES_FOR_LATTICE} entities during the previous tick sample the wind directly,
+ * so isolated entities cost a single evaluation and still feel Wind Disturbances narrower than the lattice spacing.
+ */
+public final class EntityWindField {
+	public static final int SAMPLE_SPACING = 4;
+	public static final int MIN_ENTITIES_FOR_LATTICE = 8;
+	private static final double INVERSE_SAMPLE_SPACING = 1D / SAMPLE_SPACING;
+	private static final List<EntityWindField> WIND_FIELDS = new ArrayList<>();
+	public static final EntityWindField CRITTERS = new EntityWindField((windManager, pos) -> windManager.getWindMovement(pos, 1D, 100D, 100D));
+
+	private final BiFunction<WindManager, Vec3, Vec3> windSampler;
+	private final Map<ResourceKey<Level>, LevelSamples> samplesPerLevel = new HashMap<>();
+
+	public EntityWindField(@NotNull BiFunction<WindManager, Vec3, Vec3> windSampler) {
+		this.windSampler = windSampler;
+		WIND_FIELDS.add(this);
+	}
+
+	@NotNull
+	public Vec3 getWindMovement(@NotNull ServerLevel level, @NotNull Vec3 pos) {
+		LevelSamples samples = this.samplesPerLevel.computeIfAbsent(level.dimension(), dimension -> new LevelSamples());
+		long gameTime = level.getGameTime();
+		if (samples.gameTime != gameTime) {
+			samples.gameTime = gameTime;
+			samples.samples.clear();
+			Long2IntOpenHashMap previousCounts = samples.previousCellCounts;
+			samples.previousCellCounts = samples.cellCounts;
+			samples.cellCounts = previousCounts;
+			samples.cellCounts.clear();
+		}
+
+		double sampleX = pos.x * INVERSE_SAMPLE_SPACING;
+		double sampleY = pos.y * INVERSE_SAMPLE_SPACING;
+		double sampleZ = pos.z * INVERSE_SAMPLE_SPACING;
+		int x = Mth.floor(sampleX);
+		int y = Mth.floor(sampleY);
+		int z = Mth.floor(sampleZ);
+		double deltaX = sampleX - x;
+		double deltaY = sampleY - y;
+		double deltaZ = sampleZ - z;
+
+		WindManager windManager = WindManager.getWindManager(level);
+		long cell = BlockPos.asLong(x, y, z);
+		samples.cellCounts.addTo(cell, 1);
+		if (samples.previousCellCounts.get(cell) < MIN_ENTITIES_FOR_LATTICE) {
+			return this.windSampler.apply(windManager, pos);
+		}
+
+		Vec3 x0y0z0 = this.getSample(windManager, samples, x, y, z);
+		Vec3 x1y0z0 = this.getSample(windManager, samples, x + 1, y, z);
+		Vec3 x0y1z0 = this.getSample(windManager, samples, x, y + 1, z);
+		Vec3 x1y1z0 = this.getSample(windManager, samples, x + 1, y + 1, z);
+		Vec3 x0y0z1 = this.getSample(windManager, samples, x, y, z + 1);
+		Vec3 x1y0z1 = this.getSample(windManager, samples, x + 1, y, z + 1);
+		Vec3 x0y1z1 = this.getSample(windManager, samples, x, y + 1, z + 1);
+		Vec3 x1y1z1 = this.getSample(windManager, samples, x + 1, y + 1, z + 1);
+
+		return new Vec3(
+			Mth.lerp3(deltaX, deltaY, deltaZ, x0y0z0.x, x1y0z0.x, x0y1z0.x, x1y1z0.x, x0y0z1.x, x1y0z1.x, x0y1z1.x, x1y1z1.x),
+			Mth.lerp3(deltaX, deltaY, deltaZ, x0y0z0.y, x1y0z0.y, x0y1z0.y, x1y1z0.y, x0y0z1.y, x1y0z1.y, x0y1z1.y, x1y1z1.y),
+			Mth.lerp3(deltaX, deltaY, deltaZ, x0y0z0.z, x1y0z0.z, x0y1z0.z, x1y1z0.z, x0y0z1.z, x1y0z1.z, x0y1z1.z, x1y1z1.z)
+		);
+	}
+
+	@NotNull
+	private Vec3 getSample(@NotNull WindManager windManager, @NotNull LevelSamples samples, int x, int y, int z) {
+		long key = BlockPos.asLong(x, y, z);
+		Vec3 sample = samples.samples.get(key);
+		if (sample == null) {
+			sample = this.windSampler.apply(windManager, new Vec3(x * SAMPLE_SPACING, y * SAMPLE_SPACING, z * SAMPLE_SPACING));
+			samples.samples.put(key, sample);
+		}
+		return sample;
+	}
+
+	public static void clearAll() {
+		for (EntityWindField windField : WIND_FIELDS) {
+			windField.samplesPerLevel.clear();
+		}
+	}
+
+	private static class LevelSamples {
+		private final Long2ObjectOpenHashMap<Vec3> samples = new Long2ObjectOpenHashMap<>();
+		private Long2IntOpenHashMap cellCounts = new Long2IntOpenHashMap();
+		private Long2IntOpenHashMap previousCellCounts = new Long2IntOpenHashMap();
+		private long gameTime = Long.MIN_VALUE;
+	}
+}
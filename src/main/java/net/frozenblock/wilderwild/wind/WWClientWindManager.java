@@ -18,8 +18,12 @@
 
 package net.frozenblock.wilderwild.wind;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.WindDisturbance;
 import net.frozenblock.lib.wind.client.api.ClientWindManagerExtension;
 import net.frozenblock.lib.wind.client.impl.ClientWindManager;
 import static net.frozenblock.lib.wind.client.impl.ClientWindManager.*;
@@ -29,10 +33,12 @@ import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,6 +50,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 	public static double cloudX;
 	public static double cloudY;
 	public static double cloudZ;
+	private final Long2ObjectOpenHashMap<List<WindDisturbance<?>>> windDisturbancesBySection = new Long2ObjectOpenHashMap<>();
 
 	public static double getCloudX(float partialTick) {
 		return Mth.lerp(partialTick, prevCloudX, cloudX);
@@ -71,6 +78,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		ClientLevel level = minecraft.level;
 		if (level != null) {
 			BlockPos pos = minecraft.gameRenderer.getMainCamera().getBlockPosition();
+			ClientParticleWindLattice.refresh(level, pos.getX(), pos.getY(), pos.getZ());
 			this.animateTick(level, pos.getX(), pos.getY(), pos.getZ());
 		}
 	}
@@ -83,7 +91,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 				this.spawnAmbientWindParticles(level, posX, posY, posZ, 48, randomSource, mutableBlockPos);
 			}
 		}
-		if (WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLES) {
+		if (WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLES && this.indexWindDisturbances(posX, posY, posZ, 48)) {
 			for (int i = 0; i < WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS; ++i) {
 				this.spawnDisturbanceWindParticles(level, posX, posY, posZ, 48, randomSource, mutableBlockPos);
 			}
@@ -136,10 +144,11 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		int i = posX + random.nextIntBetweenInclusive(-range, range);
 		int j = posY + random.nextIntBetweenInclusive(-range, range);
 		int k = posZ + random.nextIntBetweenInclusive(-range, range);
+		List<WindDisturbance<?>> sectionWindDisturbances = this.windDisturbancesBySection.get(SectionPos.asLong(
+			SectionPos.blockToSectionCoord(i), SectionPos.blockToSectionCoord(j), SectionPos.blockToSectionCoord(k)
+		));
+		if (sectionWindDisturbances == null || !isInWindDisturbance(sectionWindDisturbances, i, j, k)) return;
 		blockPos.set(i, j, k);
-		if (ClientWindManager.getWindDisturbances().stream().noneMatch(windDisturbance -> windDisturbance.affectedArea.contains(i, j, k))) {
-			return;
-		}
 
 		BlockState blockState = level.getBlockState(blockPos);
 
@@ -160,6 +169,40 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		}
 	}
 
+	/**
+	 * Buckets every Wind Disturbance within range by the chunk sections it overlaps,
+	 * so each particle spawn attempt only has to check the Disturbances in its own section.
+	 *
+	 * @return whether any Wind Disturbance is within range.
+	 */
+	private boolean indexWindDisturbances(int posX, int posY, int posZ, int range) {
+		this.windDisturbancesBySection.clear();
+		AABB rangeBox = new AABB(posX - range, posY - range, posZ - range, posX + range + 1, posY + range + 1, posZ + range + 1);
+		for (WindDisturbance<?> windDisturbance : ClientWindManager.getWindDisturbances()) {
+			AABB affectedArea = windDisturbance.affectedArea;
+			if (!affectedArea.intersects(rangeBox)) continue;
+			AABB indexedArea = affectedArea.intersect(rangeBox);
+			int maxX = SectionPos.posToSectionCoord(indexedArea.maxX);
+			int maxY = SectionPos.posToSectionCoord(indexedArea.maxY);
+			int maxZ = SectionPos.posToSectionCoord(indexedArea.maxZ);
+			for (int x = SectionPos.posToSectionCoord(indexedArea.minX); x <= maxX; x++) {
+				for (int y = SectionPos.posToSectionCoord(indexedArea.minY); y <= maxY; y++) {
+					for (int z = SectionPos.posToSectionCoord(indexedArea.minZ); z <= maxZ; z++) {
+						this.windDisturbancesBySection.computeIfAbsent(SectionPos.asLong(x, y, z), sectionPos -> new ArrayList<>()).add(windDisturbance);
+					}
+				}
+			}
+		}
+		return !this.windDisturbancesBySection.isEmpty();
+	}
+
+	private static boolean isInWindDisturbance(@NotNull List<WindDisturbance<?>> windDisturbances, int x, int y, int z) {
+		for (WindDisturbance<?> windDisturbance : windDisturbances) {
+			if (windDisturbance.affectedArea.contains(x, y, z)) return true;
+		}
+		return false;
+	}
+
 	public static boolean shouldUseWind() {
 		return WWAmbienceAndMiscConfig.CLOUD_MOVEMENT && ClientWindManager.shouldUseWind();
 	}
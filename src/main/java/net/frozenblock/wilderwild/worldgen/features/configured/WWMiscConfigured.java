@@ -131,7 +131,6 @@ public final class WWMiscConfigured {
 	public static final FrozenLibConfiguredFeature<NoisePathFeatureConfig, ConfiguredFeature<NoisePathFeatureConfig, ?>> SANDSTONE_PATH = register("sandstone_path");
 	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SCORCHED_SAND_DISK = register("scorched_sand");
 	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SCORCHED_SAND_DISK_HUGE = register("scorched_sand_huge");
-	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SCORCHED_SAND_DISK_LIGHTNING = register("scorched_sand_lightning");
 	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SAND_TRANSITION_DISK = register("sand_transition");
 
 	// BADLANDS
@@ -139,7 +138,6 @@ public final class WWMiscConfigured {
 	public static final FrozenLibConfiguredFeature<NoisePathFeatureConfig, ConfiguredFeature<NoisePathFeatureConfig, ?>> PACKED_MUD_PATH_BADLANDS = register("packed_mud_path_badlands");
 	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SCORCHED_RED_SAND_DISK = register("scorched_red_sand");
 	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SCORCHED_RED_SAND_DISK_HUGE = register("scorched_red_sand_huge");
-	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> SCORCHED_RED_SAND_DISK_LIGHTNING = register("scorched_red_sand_lightning");
 	public static final FrozenLibConfiguredFeature<BallFeatureConfig, ConfiguredFeature<BallFeatureConfig, ?>> RED_SAND_TRANSITION_DISK = register("red_sand_transition");
 
 	// OASIS
@@ -710,26 +708,6 @@ public final class WWMiscConfigured {
 			)
 		);
 
-		SCORCHED_SAND_DISK_LIGHTNING.makeAndSetHolder(FrozenLibFeatures.BALL_FEATURE,
-			new BallFeatureConfig(
-				new BallBlockPlacement.Builder(BlockStateProvider.simple(WWBlocks.SCORCHED_SAND.defaultBlockState().setValue(WWBlockStateProperties.CRACKED, true)))
-					.placementChance(0.95F)
-					.fadeStartPercentage(0.8F)
-					.replacementBlockPredicate(BlockPredicate.matchesTag(WWBlockTags.SCORCHED_SAND_FEATURE_INNER_REPLACEABLE))
-					.searchingBlockPredicate(TouchingBlockPredicate.exposed())
-					.outerRingBlockPlacement(
-						new BallOuterRingBlockPlacement.Builder(BlockStateProvider.simple(WWBlocks.SCORCHED_SAND))
-							.placementChance(0.895F)
-							.outerRingStartPercentage(0.6F)
-							.replacementBlockPredicate(BlockPredicate.matchesTag(WWBlockTags.SCORCHED_SAND_FEATURE_REPLACEABLE))
-							.searchingBlockPredicate(TouchingBlockPredicate.exposed())
-							.build()
-					).build(),
-				Optional.empty(),
-				UniformInt.of(1, 3)
-			)
-		);
-
 		SAND_TRANSITION_DISK.makeAndSetHolder(FrozenLibFeatures.BALL_FEATURE,
 			new BallFeatureConfig(
 				new BallBlockPlacement.Builder(BlockStateProvider.simple(Blocks.SAND))
@@ -821,26 +799,6 @@ public final class WWMiscConfigured {
 			)
 		);
 
-		SCORCHED_RED_SAND_DISK_LIGHTNING.makeAndSetHolder(FrozenLibFeatures.BALL_FEATURE,
-			new BallFeatureConfig(
-				new BallBlockPlacement.Builder(BlockStateProvider.simple(WWBlocks.SCORCHED_RED_SAND.defaultBlockState().setValue(WWBlockStateProperties.CRACKED, true)))
-					.placementChance(0.95F)
-					.fadeStartPercentage(0.8F)
-					.replacementBlockPredicate(BlockPredicate.matchesTag(WWBlockTags.RED_SCORCHED_SAND_FEATURE_INNER_REPLACEABLE))
-					.searchingBlockPredicate(TouchingBlockPredicate.exposed())
-					.outerRingBlockPlacement(
-						new BallOuterRingBlockPlacement.Builder(BlockStateProvider.simple(WWBlocks.SCORCHED_RED_SAND.defaultBlockState()))
-							.placementChance(0.895F)
-							.outerRingStartPercentage(0.6F)
-							.replacementBlockPredicate(BlockPredicate.matchesTag(WWBlockTags.RED_SCORCHED_SAND_FEATURE_REPLACEABLE))
-							.searchingBlockPredicate(TouchingBlockPredicate.exposed())
-							.build()
-					).build(),
-				Optional.empty(),
-				UniformInt.of(1, 3)
-			)
-		);
-
 		RED_SAND_TRANSITION_DISK.makeAndSetHolder(FrozenLibFeatures.BALL_FEATURE,
 			new BallFeatureConfig(
 				new BallBlockPlacement.Builder(BlockStateProvider.simple(Blocks.RED_SAND))
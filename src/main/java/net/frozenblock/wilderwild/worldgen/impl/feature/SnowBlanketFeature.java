@@ -19,7 +19,6 @@
 package net.frozenblock.wilderwild.worldgen.impl.feature;
 
 import com.mojang.serialization.Codec;
-import java.util.Optional;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 import net.frozenblock.wilderwild.block.impl.SnowyBlockUtils;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
@@ -37,6 +36,7 @@ import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 
@@ -49,10 +49,10 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 		@NotNull BlockPos.MutableBlockPos topPos,
 		@NotNull BlockPos.MutableBlockPos bottomPos,
 		@NotNull BlockPos.MutableBlockPos mutable,
-		@NotNull Optional<Holder<Biome>> optionalBiomeHolder
+		@Nullable Biome columnBiome
 	) {
 		boolean returnValue;
-		if (placeSnowLayer(level, bottomPos, mutable, optionalBiomeHolder, true) == SnowGenerationState.CANCEL) {
+		if (placeSnowLayer(level, bottomPos, mutable, columnBiome, true) == SnowGenerationState.CANCEL) {
 			return false;
 		} else {
 			returnValue = true;
@@ -60,7 +60,7 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 		}
 
 		while (bottomPos.getY() <= topPos.getY()) {
-			placeSnowLayer(level, bottomPos, mutable, optionalBiomeHolder, false);
+			placeSnowLayer(level, bottomPos, mutable, columnBiome, false);
 			bottomPos.move(Direction.UP);
 		}
 		return returnValue;
@@ -70,10 +70,10 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 		@NotNull WorldGenLevel level,
 		@NotNull BlockPos.MutableBlockPos mutablePos,
 		@NotNull BlockPos.MutableBlockPos mutablePos2,
-		@NotNull Optional<Holder<Biome>> optionalBiomeHolder,
+		@Nullable Biome columnBiome,
 		boolean cancelIfCantSnow
 	) {
-		Biome biome = optionalBiomeHolder.orElse(level.getBiome(mutablePos)).value();
+		Biome biome = columnBiome != null ? columnBiome : level.getBiome(mutablePos).value();
 		if (cancelIfCantSnow && biome.warmEnoughToRain(mutablePos)) return SnowGenerationState.CANCEL;
 
 		if (biome.shouldSnow(level, mutablePos)) {
@@ -114,12 +114,26 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 		int posX = pos.getX();
 		int posZ = pos.getZ();
 
+		// Each column only reads and writes its own blocks, so every height can be found before any snow is placed.
+		int[] heights = new int[256];
+		int[] bottomHeights = new int[256];
 		for (int i = 0; i < 16; i++) {
 			for (int j = 0; j < 16; j++) {
 				int x = posX + i;
 				int z = posZ + j;
-				int height = level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
-				int bottomHeight = findLowestHeightForSnow(level, x, z);
+				int index = (i << 4) | j;
+				heights[index] = level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+				bottomHeights[index] = heights[index] > level.getMinBuildHeight() ? findLowestHeightForSnow(level, x, z) : heights[index];
+			}
+		}
+
+		for (int i = 0; i < 16; i++) {
+			for (int j = 0; j < 16; j++) {
+				int x = posX + i;
+				int z = posZ + j;
+				int index = (i << 4) | j;
+				int height = heights[index];
+				int bottomHeight = bottomHeights[index];
 
 				if (height > bottomHeight) {
 					mutablePos.set(x, height, z);
@@ -132,8 +146,8 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 						level.setBlock(mutableIcePos, Blocks.ICE.defaultBlockState(), Block.UPDATE_CLIENTS);
 					}
 
-					Optional<Holder<Biome>> optionalBiomeHolder = biomeHolder.equals(lowerBiomeHolder) ? Optional.of(biomeHolder) : Optional.empty();
-					returnValue = placeSnowAtPos(level, mutablePos, mutableSnowPos, mutableSnowPos2, optionalBiomeHolder) || returnValue;
+					Biome columnBiome = biomeHolder.equals(lowerBiomeHolder) ? biomeHolder.value() : null;
+					returnValue = placeSnowAtPos(level, mutablePos, mutableSnowPos, mutableSnowPos2, columnBiome) || returnValue;
 				}
 			}
 		}